@@ -0,0 +1,83 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/os;
+import ballerina/test;
+
+@test:Config {}
+function testExecAdmissionLimits() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    // The tests run with at most 8 processes at a time, 1 queued exec and a queue timeout of 1 second.
+    os:Process[] sleepers = [];
+    while os:getExecQueueStats().runningProcesses < 8 {
+        sleepers.push(check os:exec({value: "sleep", arguments: ["10"]}));
+    }
+    future<os:Process|os:Error> queued = start os:exec({value: "true"});
+    while os:getExecQueueStats().queuedExecs == 0 {
+        runtime:sleep(0.01);
+    }
+    os:Process|os:Error rejected = os:exec({value: "true"});
+    os:Process|os:Error timedOut = wait queued;
+    foreach os:Process sleeper in sleepers {
+        sleeper.exit();
+    }
+    if rejected is os:Error {
+        test:assertEquals(rejected.message(), "Failed to retrieve the process object: The exec queue is full");
+    } else {
+        test:assertFail("exec did not return an error when the queue was full");
+    }
+    if timedOut is os:Error {
+        test:assertEquals(timedOut.message(),
+            "Failed to retrieve the process object: Timed out waiting for a free exec slot");
+    } else {
+        test:assertFail("exec did not return an error when the queue timeout expired");
+    }
+}
+
+@test:Config {}
+function testPipelineExceedingAdmissionLimit() {
+    os:Command[] stages = from int i in 0 ..< 9
+        select {value: "cat"};
+    os:Process[]|os:Error processes = os:pipeline(stages);
+    if processes is os:Error {
+        test:assertEquals(processes.message(),
+            "Failed to start the pipeline: The pipeline has 9 stages, but at most 8 processes can run at a time");
+    } else {
+        test:assertFail("pipeline did not return an error for more stages than the admission limit");
+    }
+}
+
+@test:Config {}
+function testCoprocessWorkersCountTowardsAdmissionLimit() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    int running = os:getExecQueueStats().runningProcesses;
+    os:Coprocess coprocess = check new ({value: "cat"}, poolSize = 2);
+    test:assertEquals(os:getExecQueueStats().runningProcesses, running + 2);
+    coprocess.close();
+
+    os:Coprocess|os:Error oversized = new ({value: "cat"}, poolSize = 9);
+    if oversized is os:Error {
+        test:assertEquals(oversized.message(),
+            "Failed to start the coprocess: The pool has 9 workers, but at most 8 processes can run at a time");
+    } else {
+        test:assertFail("Coprocess did not return an error for more workers than the admission limit");
+    }
+}
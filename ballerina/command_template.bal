@@ -0,0 +1,88 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Counts of the processes started from a command template.
+#
+# + started - The number of processes started
+# + failed - The number of processes, which could not be started
+public type CommandTemplateStats record {|
+    int started;
+    int failed;
+|};
+
+# Represents a command, which is executed repeatedly. The executable, the arguments, the environment properties and
+# the redirects are resolved once when the template is created, and only the arguments given as `{}` placeholders are
+# bound for each process. An argument given as `{{}}` is passed as a literal `{}`.
+# The processes inherit the environment of the strand, which executes them, unless `clearEnv` is set.
+# ```ballerina
+# os:CommandTemplate convert = new ({value: "convert", arguments: ["{}", "-resize", "50%", "{}"]}, stderr = os:DISCARD);
+# os:Process process = check convert.exec([inputPath, outputPath]);
+# ```
+public isolated class CommandTemplate {
+
+    # Resolves the command and the environment properties of the template.
+    #
+    # + command - The command to be executed. The arguments equal to `{}` are placeholders, and the arguments equal to
+    # `{{}}` are passed as `{}`
+    # + stdin - Where the standard input of the processes is read from
+    # + stdout - Where the standard output of the processes is written to
+    # + stderr - Where the standard error of the processes is written to
+    # + envProperties - The environment properties, which are applied to all the processes
+    public isolated function init(Command command, Redirect stdin = PIPE, Redirect stdout = PIPE,
+            Redirect stderr = PIPE, *EnvProperties envProperties) {
+        nativeCommandTemplateInit(self, command, stdin, stdout, stderr, envProperties);
+    }
+
+    # Executes the command with the given values bound to its placeholder arguments, in order.
+    # ```ballerina
+    # os:Process|os:Error process = template.exec([inputPath, outputPath]);
+    # ```
+    #
+    # + bindings - The values of the placeholder arguments
+    # + return - Process object in success, or an Error if a failure occurs
+    public isolated function exec(string[] bindings = []) returns Process|Error {
+        return nativeCommandTemplateExec(self, bindings);
+    }
+
+    # Returns the number of processes started from the template.
+    # ```ballerina
+    # os:CommandTemplateStats stats = template.stats();
+    # ```
+    #
+    # + return - The counts of the processes started from the template
+    public isolated function stats() returns CommandTemplateStats {
+        return nativeCommandTemplateStats(self);
+    }
+}
+
+isolated function nativeCommandTemplateInit(CommandTemplate template, Command command, Redirect stdin,
+        Redirect stdout, Redirect stderr, EnvProperties envProperties) = @java:Method {
+    name: "init",
+    'class: "io.ballerina.stdlib.os.nativeimpl.CommandTemplate"
+} external;
+
+isolated function nativeCommandTemplateExec(CommandTemplate template, string[] bindings)
+        returns Process|Error = @java:Method {
+    name: "exec",
+    'class: "io.ballerina.stdlib.os.nativeimpl.CommandTemplate"
+} external;
+
+isolated function nativeCommandTemplateStats(CommandTemplate template) returns CommandTemplateStats = @java:Method {
+    name: "stats",
+    'class: "io.ballerina.stdlib.os.nativeimpl.CommandTemplate"
+} external;
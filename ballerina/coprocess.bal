@@ -0,0 +1,120 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Framing of the requests and the responses exchanged with a coprocess.
+# NEWLINE - Each message is terminated by a newline character. A message cannot contain a newline character
+# LENGTH_PREFIX - Each message is preceded by its length as a 4-byte big-endian integer
+# NUL - Each message is terminated by a NUL byte. A message cannot contain a NUL byte
+public enum Framing {
+    NEWLINE,
+    LENGTH_PREFIX,
+    NUL
+}
+
+# Configurations of a coprocess.
+#
+# + poolSize - The number of worker processes kept alive
+# + framing - The framing of the requests and the responses
+# + maxResponseSize - The maximum size of a response in bytes. A larger response fails the call
+# + timeout - The maximum time in seconds a call waits for the response, or `()` to wait without a timeout
+public type CoprocessConfig record {|
+    int poolSize = 1;
+    Framing framing = NEWLINE;
+    int maxResponseSize = 16777216;
+    decimal? timeout = ();
+|};
+
+# Represents a pool of long-lived worker processes, which serve requests over their standard input and respond over
+# their standard output. This avoids starting a process for each request.
+# A worker serves one request at a time and needs to write exactly one response for each request it reads.
+# A worker, which has exited, is restarted before it serves the next request.
+# ```ballerina
+# os:Coprocess jq = check new ({value: "jq", arguments: ["--unbuffered", "-c", ".name"]}, poolSize = 4);
+# byte[] name = check jq.call(payload.toJsonString().toBytes());
+# ```
+public isolated class Coprocess {
+
+    # Starts the worker processes of the coprocess.
+    #
+    # + command - The command to be executed by each worker
+    # + config - The configurations of the coprocess
+    # + return - An `Error` if the workers cannot be started, or else `()`
+    public isolated function init(Command command, *CoprocessConfig config) returns Error? {
+        if config.poolSize <= 0 {
+            return error Error("The pool size must be a positive integer");
+        }
+        if config.maxResponseSize < 0 {
+            return error Error("The maximum response size must be a non-negative integer");
+        }
+        check validateTimeout(config.timeout);
+        return nativeCoprocessInit(self, command, config.framing, config.poolSize, config.maxResponseSize,
+            config.timeout);
+    }
+
+    # Sends a request to an idle worker and returns its response.
+    # If all the workers are busy, the calling strand is suspended until one becomes idle.
+    # ```ballerina
+    # byte[]|os:Error response = coprocess.call("request".toBytes());
+    # ```
+    #
+    # + request - The request to be sent
+    # + return - The response of the worker, or else an `Error` if a failure occurs. An `os:TimeoutError` is returned
+    # if the worker does not respond within the timeout. The worker is restarted if the exchange fails
+    public isolated function call(byte[] request) returns byte[]|Error {
+        return nativeCoprocessCall(self, request);
+    }
+
+    # Restarts the workers, which have exited.
+    # ```ballerina
+    # int alive = coprocess.checkHealth();
+    # ```
+    #
+    # + return - The number of workers, which are alive
+    public isolated function checkHealth() returns int {
+        return nativeCoprocessCheckHealth(self);
+    }
+
+    # Terminates all the workers of the coprocess.
+    # ```ballerina
+    # coprocess.close();
+    # ```
+    public isolated function close() {
+        nativeCoprocessClose(self);
+    }
+}
+
+isolated function nativeCoprocessInit(Coprocess coprocess, Command command, Framing framing, int poolSize,
+        int maxResponseSize, decimal? timeout) returns Error? = @java:Method {
+    name: "init",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Coprocess"
+} external;
+
+isolated function nativeCoprocessCall(Coprocess coprocess, byte[] request) returns byte[]|Error = @java:Method {
+    name: "call",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Coprocess"
+} external;
+
+isolated function nativeCoprocessCheckHealth(Coprocess coprocess) returns int = @java:Method {
+    name: "checkHealth",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Coprocess"
+} external;
+
+isolated function nativeCoprocessClose(Coprocess coprocess) = @java:Method {
+    name: "close",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Coprocess"
+} external;
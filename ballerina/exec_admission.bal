@@ -0,0 +1,59 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# The maximum number of child processes running at a time, including the stages of pipelines and the workers of
+# coprocesses. Any further `os:exec` call waits in a queue until a process exits. A negative value disables the limit.
+configurable int maxConcurrentProcesses = -1;
+
+# The maximum number of `os:exec` calls waiting for a process to exit. A call made while the queue is full fails 
+# immediately. A negative value disables the limit.
+configurable int maxQueuedExecs = -1;
+
+# The maximum time in seconds an `os:exec` call waits in the queue. A negative value disables the timeout.
+configurable decimal execQueueTimeout = -1;
+
+# Represents the state of the admission control of `os:exec`.
+#
+# + runningProcesses - The number of child processes running
+# + queuedExecs - The number of calls waiting for a process to exit
+# + totalQueuedExecs - The total number of calls, which had to wait
+# + totalWaitTime - The total time in seconds spent waiting by the calls
+# + maxWaitTime - The longest time in seconds a call has waited
+public type ExecQueueStats record {|
+    int runningProcesses;
+    int queuedExecs;
+    int totalQueuedExecs;
+    decimal totalWaitTime;
+    decimal maxWaitTime;
+|};
+
+# Returns the state of the admission control of `os:exec`, which can be used to observe backpressure.
+# ```ballerina
+# os:ExecQueueStats stats = os:getExecQueueStats();
+# ```
+#
+# + return - The state of the queue of `os:exec` calls
+public isolated function getExecQueueStats() returns ExecQueueStats = @java:Method {
+    'class: "io.ballerina.stdlib.os.nativeimpl.ExecAdmission"
+} external;
+
+function configureExecAdmission(int maxConcurrentProcesses, int maxQueuedExecs, decimal execQueueTimeout) =
+@java:Method {
+    name: "configure",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ExecAdmission"
+} external;
@@ -16,8 +16,13 @@
 
 import ballerina/jballerina.java;
 
-function init() {
+function init() returns error? {
     setModule();
+    configureExecAdmission(maxConcurrentProcesses, maxQueuedExecs, execQueueTimeout);
+    if systemResourcesInterval <= 0d {
+        return error Error("The system resources interval must be a positive number of seconds");
+    }
+    configureSystemResources(systemResourcesInterval);
 }
 
 function setModule() = @java:Method {
@@ -16,13 +16,110 @@
 
 import ballerina/jballerina.java;
 
+const int DEFAULT_OUTPUT_LIMIT = 10485760;
+
 public type Command record {|
     string value;
     string[] arguments = [];
 |};
 
+# Represents the result of a process, which ran to completion.
+#
+# + exitCode - The exit code of the process
+# + stdout - The bytes read from the standard output of the process
+# + stderr - The bytes read from the standard error of the process
+public type ProcessResult record {|
+    int exitCode;
+    byte[] stdout;
+    byte[] stderr;
+|};
+
+# Represents the resource usage of a process. A value, which cannot be determined on the platform, is `()`.
+# Once the process has exited, the last usage observed while it was alive is returned.
+#
+# + pid - The process ID
+# + alive - Whether the process was alive when the usage was read
+# + startTime - The start time of the process in seconds since the epoch
+# + cpuTime - The total CPU time consumed by the process in seconds
+# + wallTime - The time in seconds elapsed from the start of the process to now, or to its exit
+# + rss - The resident set size of the process in bytes
+# + peakRss - The peak resident set size of the process in bytes
+# + readBytes - The number of bytes read by the process from the storage layer
+# + writeBytes - The number of bytes written by the process to the storage layer
+public type ProcessStats record {|
+    int pid;
+    boolean alive;
+    decimal startTime;
+    decimal? cpuTime;
+    decimal wallTime;
+    int? rss;
+    int? peakRss;
+    int? readBytes;
+    int? writeBytes;
+|};
+
+# Represents a process of a batch, which has finished.
+#
+# + index - The index of the command in the batch
+# + result - The result of the process, or an `Error` if it could not be executed
+public type CompletedProcess record {|
+    int index;
+    ProcessResult|Error result;
+|};
+
+# Represents a process, which has exited.
+#
+# + process - The process
+# + index - The index of the process in the given processes
+# + exitCode - The exit code of the process
+public type ExitedProcess record {|
+    Process process;
+    int index;
+    int exitCode;
+|};
+
+# Represents the output of a process captured within a byte budget.
+#
+# + head - The first bytes of the output
+# + tail - The last bytes of the output, which follow the head
+# + droppedBytes - The number of bytes between the head and the tail, which were read and discarded
+public type CapturedOutput record {|
+    byte[] head;
+    byte[] tail;
+    int droppedBytes;
+|};
+
+# Redirect modes of a standard stream of a process.
+# PIPE - The stream is connected to the Ballerina process through a pipe. This is the default mode
+# INHERIT - The stream of the current process is used by the subprocess
+# DISCARD - The output is discarded. For the standard input, the subprocess reads an empty input
+public enum RedirectMode {
+    PIPE,
+    INHERIT,
+    DISCARD
+}
+
+# Redirects a standard stream of a process to or from a file, which is read or written directly by the operating system.
+#
+# + path - The path of the file
+# + append - Whether the output is appended to the file instead of overwriting it. Not applicable to the standard input
+public type FileRedirect record {|
+    string path;
+    boolean append = false;
+|};
+
+# Represents where a standard stream of a process is connected to.
+public type Redirect RedirectMode|FileRedirect;
+
+# Represents the environment properties of a process.
+# The process inherits the environment of the current strand, including the changes made by `os:setEnv` and
+# `os:unsetEnv`. The fields other than `clearEnv` are set as environment variables of the process.
+#
+# + clearEnv - Whether the process is started with only the environment variables given in the environment
+# properties, instead of inheriting the environment of the current strand
 public type EnvProperties record {|
     never command?;
+    boolean clearEnv?;
     anydata...;
 |};
 
@@ -104,12 +201,13 @@ isolated function setEnvExtern(string key, string? value) returns Error? = @java
     'class: "io.ballerina.stdlib.os.nativeimpl.SetEnv"
 } external;
 
-# Returns a map of environment variables.
+# Returns a read-only map of environment variables, including the changes made by `os:setEnv` and `os:unsetEnv`
+# in the current strand.
 # ```ballerina
 # map<string> envs = os:listEnv();
 # ```
 #
-# + return - Map of environment variables
+# + return - Read-only map of environment variables
 public isolated function listEnv() returns map<string> {
     return listEnvExtern();
 }
@@ -125,9 +223,133 @@ isolated function listEnvExtern() returns map<string> = @java:Method {
 # ```
 #
 # + command - The command to be executed
+# + stdin - Where the standard input of the process is read from
+# + stdout - Where the standard output of the process is written to
+# + stderr - Where the standard error of the process is written to
 # + envProperties - The environment properties
 # + return - Process object in success, or an Error if a failure occurs
-public isolated function exec(Command command, *EnvProperties envProperties) returns Process|Error = @java:Method {
+public isolated function exec(Command command, Redirect stdin = PIPE, Redirect stdout = PIPE, Redirect stderr = PIPE,
+        *EnvProperties envProperties) returns Process|Error = @java:Method {
     name: "exec",
     'class: "io.ballerina.stdlib.os.nativeimpl.Exec"
 } external;
+
+# Executes the given commands as a pipeline of subprocesses, in which the standard output of each command is connected 
+# to the standard input of the next command. The stages are connected by the operating system, so the data passed 
+# between them is not read into Ballerina.
+# ```ballerina
+# os:Process[]|os:Error processes = os:pipeline([{value: "cat", arguments: [filepath]}, {value: "sort"}, {value: "uniq"}]);
+# ```
+#
+# + stages - The commands to be executed, in the order of the pipeline
+# + stdin - Where the standard input of the first stage is read from
+# + stdout - Where the standard output of the last stage is written to
+# + stderr - Where the standard error of the stages is written to
+# + envProperties - The environment properties, which are applied to all the stages
+# + return - The process objects of the stages in the order of the pipeline, or an Error if a failure occurs
+public isolated function pipeline(Command[] stages, Redirect stdin = PIPE, Redirect stdout = PIPE,
+        Redirect stderr = PIPE, *EnvProperties envProperties) returns Process[]|Error {
+    if stages.length() == 0 {
+        return error Error("The pipeline must have at least one stage");
+    }
+    return pipelineExtern(stages, stdin, stdout, stderr, envProperties);
+}
+
+isolated function pipelineExtern(Command[] stages, Redirect stdin, Redirect stdout, Redirect stderr,
+        EnvProperties envProperties) returns Process[]|Error = @java:Method {
+    name: "pipeline",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Pipeline"
+} external;
+
+# Executes a batch of commands, keeping at most `maxParallel` of them running at a time. The standard output and the 
+# standard error of each process are drained concurrently while it runs.
+# ```ballerina
+# (os:ProcessResult|os:Error)[]|os:Error results = os:execAll(commands, 8);
+# ```
+#
+# + commands - The commands to be executed
+# + maxParallel - The maximum number of processes running at a time
+# + outputLimit - The maximum number of bytes retained from the standard output and from the standard error of each
+# process, or `()` to retain all. Bytes beyond the limit are read and discarded
+# + stdin - Where the standard input of the processes is read from
+# + stdout - Where the standard output of the processes is written to
+# + stderr - Where the standard error of the processes is written to
+# + envProperties - The environment properties, which are applied to all the commands
+# + return - The results of the commands in the order of the commands, or an Error if the batch cannot be started
+public isolated function execAll(Command[] commands, int maxParallel = 1, int? outputLimit = DEFAULT_OUTPUT_LIMIT,
+        Redirect stdin = PIPE, Redirect stdout = PIPE, Redirect stderr = PIPE, *EnvProperties envProperties)
+        returns (ProcessResult|Error)[]|Error {
+    stream<CompletedProcess, Error?> completions = check execAllAsStream(commands, maxParallel, outputLimit, stdin,
+        stdout, stderr, envProperties);
+    return from CompletedProcess completion in completions
+        order by completion.index
+        select completion.result;
+}
+
+# Executes a batch of commands, keeping at most `maxParallel` of them running at a time, and returns the results as 
+# the processes finish. The remaining commands are not started if the stream is closed before it is fully consumed.
+# ```ballerina
+# stream<os:CompletedProcess, os:Error?> completions = check os:execAllAsStream(commands, 8);
+# ```
+#
+# + commands - The commands to be executed
+# + maxParallel - The maximum number of processes running at a time
+# + outputLimit - The maximum number of bytes retained from the standard output and from the standard error of each
+# process, or `()` to retain all. Bytes beyond the limit are read and discarded
+# + stdin - Where the standard input of the processes is read from
+# + stdout - Where the standard output of the processes is written to
+# + stderr - Where the standard error of the processes is written to
+# + envProperties - The environment properties, which are applied to all the commands
+# + return - A stream of the finished processes in the order of completion, or an Error if the batch cannot be started
+public isolated function execAllAsStream(Command[] commands, int maxParallel = 1,
+        int? outputLimit = DEFAULT_OUTPUT_LIMIT, Redirect stdin = PIPE, Redirect stdout = PIPE, Redirect stderr = PIPE,
+        *EnvProperties envProperties) returns stream<CompletedProcess, Error?>|Error {
+    if maxParallel <= 0 {
+        return error Error("The maximum number of parallel processes must be a positive integer");
+    }
+    if outputLimit is int && outputLimit < 0 {
+        return error Error("The output limit cannot be negative");
+    }
+    ExecAllIterator iterator = new (commands, maxParallel, outputLimit, stdin, stdout, stderr, envProperties);
+    return new (iterator);
+}
+
+# Waits for any of the given processes to exit and returns the first one to exit. The strand is suspended while
+# waiting, without a strand or a thread being held for each process.
+# ```ballerina
+# os:ExitedProcess|os:Error exited = os:waitAny(workers);
+# ```
+#
+# + processes - The processes to be waited on
+# + return - The first process to exit, or an Error if no process is given or a failure occurs
+public isolated function waitAny(Process[] processes) returns ExitedProcess|Error {
+    if processes.length() == 0 {
+        return error Error("At least one process must be given");
+    }
+    return nativeWaitAny(processes);
+}
+
+# Waits for all the given processes to exit. The strand is suspended while waiting, without a strand or a thread 
+# being held for each process. If the processes do not exit within the timeout, the ones still running are 
+# terminated, their streams are closed, and an `os:TimeoutError` is returned.
+# ```ballerina
+# int[]|os:Error exitCodes = os:waitAll(workers, 60);
+# ```
+#
+# + processes - The processes to be waited on
+# + timeout - The maximum time in seconds to wait, or `()` to wait without a timeout
+# + return - The exit codes of the processes in the order of the processes, or an Error if a failure occurs
+public isolated function waitAll(Process[] processes, decimal? timeout = ()) returns int[]|Error {
+    check validateTimeout(timeout);
+    return nativeWaitAll(processes, timeout);
+}
+
+isolated function nativeWaitAny(Process[] processes) returns ExitedProcess|Error = @java:Method {
+    name: "waitAny",
+    'class: "io.ballerina.stdlib.os.nativeimpl.WaitForProcesses"
+} external;
+
+isolated function nativeWaitAll(Process[] processes, decimal? timeout) returns int[]|Error = @java:Method {
+    name: "waitAll",
+    'class: "io.ballerina.stdlib.os.nativeimpl.WaitForProcesses"
+} external;
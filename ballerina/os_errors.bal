@@ -19,3 +19,6 @@ public type Error distinct error;
 
 # Process Execution error that returns when the os:Exec function fails.
 public type ProcessExecError distinct Error;
+
+# Error that returns when a process does not finish within the given timeout. The process is terminated in that case.
+public type TimeoutError distinct Error;
@@ -17,19 +17,27 @@
 import ballerina/io;
 import ballerina/jballerina.java;
 
+const int MAX_CAPTURE_LIMIT = 2147483639;
+
 # This object contains information on a process being created from Ballerina.
 # This is returned from the `exec` function in the `os` module.
 public class Process {
 
     # Waits for the process to finish its work and exit. 
     # This will return 0 if successful, or a different value during failure depending on the operating system.
+    # The calling strand is suspended while waiting and does not hold a runtime thread.
+    # If a timeout is given and the process does not exit within it, the process is terminated and its streams are
+    # closed.
     # ```ballerina
     # int|os:Error exitCode = process.waitForExit();
     # ```
     #
-    # + return - Returns the exit code for the process, or else an `Error` if a failure occurs
-    public isolated function waitForExit() returns int|Error {
-        return nativeWaitForExit(self);
+    # + timeout - The maximum time in seconds to wait, or `()` to wait until the process exits
+    # + return - Returns the exit code for the process, or else an `Error` if a failure occurs.
+    # An `os:TimeoutError` is returned if the process does not exit within the timeout
+    public isolated function waitForExit(decimal? timeout = ()) returns int|Error {
+        check validateTimeout(timeout);
+        return nativeWaitForExit(self, timeout);
     }
 
     # Returns the standard output as default. Option provided to return standard error by providing file descriptor.
@@ -38,10 +46,162 @@ public class Process {
     # byte[]|os:Error err = process.output(io:stderr);
     # ```
     #
+    # If a timeout is given and the output does not end within it, the process is terminated and its streams are closed.
+    #
+    # + fileOutputStream - The output stream (`io:stdout` or `io:stderr`) content needs to be returned
+    # + timeout - The maximum time in seconds to wait for the end of the output, or `()` to wait until it ends
+    # + return - The `byte[]`, which represents the process's 'standard error', or the 'standard out', or an Error.
+    # An `os:TimeoutError` is returned if the output does not end within the timeout
+    public isolated function output(io:FileOutputStream fileOutputStream = io:stdout, decimal? timeout = ())
+            returns byte[]|Error {
+        check validateTimeout(timeout);
+        return nativeOutput(self, fileOutputStream, timeout);
+    }
+
+    # Returns the standard output as default, or the standard error, as a stream of fixed-size byte chunks.
+    # The output is read incrementally as the stream is consumed, so the memory used stays bounded by the chunk size
+    # regardless of how large the output is. Only the last chunk can be smaller than the chunk size.
+    # ```ballerina
+    # stream<byte[], os:Error?> chunks = check process.outputStream(io:stdout, 65536);
+    # ```
+    #
+    # + fileOutputStream - The output stream (`io:stdout` or `io:stderr`) content needs to be returned
+    # + chunkSize - The size of a chunk in bytes
+    # + return - A stream of byte chunks, or else an `Error` if the chunk size is not a positive integer
+    public isolated function outputStream(io:FileOutputStream fileOutputStream = io:stdout, int chunkSize = 8192)
+            returns stream<byte[], Error?>|Error {
+        if chunkSize <= 0 {
+            return error Error("The chunk size must be a positive integer");
+        }
+        OutputChunkIterator iterator = new (self, fileOutputStream, chunkSize);
+        return new (iterator);
+    }
+
+    # Returns the standard output as default, or the standard error, as a stream of UTF-8 decoded lines.
+    # The output is decoded incrementally, so a line can be processed as soon as the process has written it.
+    # The line terminators are not included in the lines.
+    # ```ballerina
+    # stream<string, os:Error?> lines = process.lines();
+    # ```
+    #
+    # + fileOutputStream - The output stream (`io:stdout` or `io:stderr`) content needs to be returned
+    # + return - A stream of lines
+    public isolated function lines(io:FileOutputStream fileOutputStream = io:stdout) returns stream<string, Error?> {
+        LineIterator iterator = new (self, fileOutputStream);
+        return new (iterator);
+    }
+
+    # Reads the standard output as default, or the standard error, until the end while retaining only the first and
+    # the last bytes of it. The bytes in between are read and discarded, so the memory used is bounded by the limits
+    # regardless of how much the process writes.
+    # ```ballerina
+    # os:CapturedOutput|os:Error output = process.capture(io:stderr, headLimit = 2048, tailLimit = 8192);
+    # ```
+    #
     # + fileOutputStream - The output stream (`io:stdout` or `io:stderr`) content needs to be returned
-    # + return - The `byte[]`, which represents the process's 'standard error', or the 'standard out', or an Error
-    public isolated function output(io:FileOutputStream fileOutputStream = io:stdout) returns byte[]|Error {
-        return nativeOutput(self, fileOutputStream);
+    # + headLimit - The maximum number of bytes retained from the start of the output
+    # + tailLimit - The maximum number of bytes retained from the end of the output
+    # + return - The retained bytes and the number of bytes dropped, or else an `Error` if a failure occurs
+    public isolated function capture(io:FileOutputStream fileOutputStream = io:stdout, int headLimit = 4096,
+            int tailLimit = 4096) returns CapturedOutput|Error {
+        if headLimit < 0 || tailLimit < 0 || headLimit > MAX_CAPTURE_LIMIT || tailLimit > MAX_CAPTURE_LIMIT {
+            return error Error(string `The capture limits must be between 0 and ${MAX_CAPTURE_LIMIT}`);
+        }
+        return nativeCapture(self, fileOutputStream, headLimit, tailLimit);
+    }
+
+    # Waits for the process to exit while reading the standard output and the standard error at the same time.
+    # Both streams are drained concurrently, so a process writing heavily to one stream does not block on it
+    # while the other one is being read. Bytes beyond a limit are read and discarded.
+    # ```ballerina
+    # os:ProcessResult|os:Error result = process.collect(stderrLimit = 4096);
+    # ```
+    #
+    # + stdoutLimit - The maximum number of bytes to be retained from the standard output, or `()` to retain all
+    # + stderrLimit - The maximum number of bytes to be retained from the standard error, or `()` to retain all
+    # + timeout - The maximum time in seconds to wait for the process to finish, or `()` to wait until it finishes.
+    # The process is terminated if it does not finish within the timeout
+    # + return - The exit code and the outputs of the process, or else an `Error` if a failure occurs.
+    # An `os:TimeoutError` is returned if the process does not finish within the timeout
+    public isolated function collect(int? stdoutLimit = (), int? stderrLimit = (), decimal? timeout = ())
+            returns ProcessResult|Error {
+        if (stdoutLimit is int && stdoutLimit < 0) || (stderrLimit is int && stderrLimit < 0) {
+            return error Error("The output limits cannot be negative");
+        }
+        check validateTimeout(timeout);
+        return nativeCollect(self, stdoutLimit, stderrLimit, timeout);
+    }
+
+    # Writes the given bytes to the standard input of the process.
+    # If the pipe to the process is full, the calling strand is suspended until the process reads from it.
+    # ```ballerina
+    # os:Error? err = process.writeInput("hello world".toBytes());
+    # ```
+    #
+    # + data - The bytes to be written
+    # + return - An `Error` if a failure occurs, or else `()`
+    public isolated function writeInput(byte[] data) returns Error? {
+        return nativeWriteInput(self, data, true);
+    }
+
+    # Writes all the chunks of the given stream to the standard input of the process.
+    # The chunks are buffered natively and flushed once the stream is fully consumed.
+    # The standard input is not closed afterwards, `closeInput` needs to be called to signal the end of the input.
+    # ```ballerina
+    # os:Error? err = process.pipeInput(check io:fileReadBlocksAsStream("data.csv"));
+    # ```
+    #
+    # + input - The stream of bytes to be written
+    # + return - An `Error` if a failure occurs while reading the stream or writing to the process, or else `()`
+    public isolated function pipeInput(stream<byte[], error?> input) returns Error? {
+        error? result = from byte[] chunk in input
+            do {
+                check nativeWriteInput(self, chunk, false);
+            };
+        if result is Error {
+            return result;
+        } else if result is error {
+            return error Error("Failed to read the input stream: " + result.message(), result);
+        }
+        return nativeFlushInput(self);
+    }
+
+    # Closes the standard input of the process, which signals the end of the input to the process.
+    # ```ballerina
+    # os:Error? err = process.closeInput();
+    # ```
+    #
+    # + return - An `Error` if a failure occurs, or else `()`
+    public isolated function closeInput() returns Error? {
+        return nativeCloseInput(self);
+    }
+
+    # Returns the resource usage of the process. The memory and I/O usage are read from the `/proc` file system, and
+    # are only available on Linux. Since the usage cannot be read once the process has exited, it is sampled in the
+    # background from the start of the process until it exits, and the last sample is returned as its final usage.
+    # The interval between the samples grows from a millisecond to half a second, so the final usage of a short-lived
+    # process is sampled close to its exit.
+    # ```ballerina
+    # os:ProcessStats stats = process.stats();
+    # ```
+    #
+    # + return - The resource usage of the process
+    public isolated function stats() returns ProcessStats {
+        return nativeStats(self);
+    }
+
+    # Terminates the process along with all the processes started by it, directly or indirectly.
+    # All the processes are first asked to terminate, and the ones still alive after the grace period are terminated
+    # forcibly.
+    # ```ballerina
+    # int|os:Error reaped = process.terminateTree(5);
+    # ```
+    #
+    # + gracePeriod - The time in seconds the processes are given to terminate before they are terminated forcibly
+    # + return - The number of processes, which have been terminated, or else an `Error` if a failure occurs
+    public isolated function terminateTree(decimal gracePeriod = 5) returns int|Error {
+        check validateTimeout(gracePeriod);
+        return nativeTerminateTree(self, gracePeriod);
     }
 
     # Terminates the process.
@@ -54,7 +214,13 @@ public class Process {
     }
 }
 
-isolated function nativeWaitForExit(Process process) returns int|Error = @java:Method {
+isolated function validateTimeout(decimal? timeout) returns Error? {
+    if timeout is decimal && timeout < 0d {
+        return error Error("The timeout cannot be negative");
+    }
+}
+
+isolated function nativeWaitForExit(Process process, decimal? timeout) returns int|Error = @java:Method {
     name: "waitForExit",
     'class: "io.ballerina.stdlib.os.nativeimpl.WaitForExit"
 } external;
@@ -64,7 +230,45 @@ isolated function nativeExit(Process process) = @java:Method {
     'class: "io.ballerina.stdlib.os.nativeimpl.Exit"
 } external;
 
-isolated function nativeOutput(Process process, int fileOutputStream) returns byte[]|Error = @java:Method {
+isolated function nativeWriteInput(Process process, byte[] data, boolean flush) returns Error? = @java:Method {
+    name: "write",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Input"
+} external;
+
+isolated function nativeFlushInput(Process process) returns Error? = @java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Input"
+} external;
+
+isolated function nativeCloseInput(Process process) returns Error? = @java:Method {
+    name: "close",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Input"
+} external;
+
+isolated function nativeCapture(Process process, int fileOutputStream, int headLimit, int tailLimit)
+        returns CapturedOutput|Error = @java:Method {
+    name: "capture",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Capture"
+} external;
+
+isolated function nativeCollect(Process process, int? stdoutLimit, int? stderrLimit, decimal? timeout)
+        returns ProcessResult|Error = @java:Method {
+    name: "collect",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Collect"
+} external;
+
+isolated function nativeStats(Process process) returns ProcessStats = @java:Method {
+    name: "stats",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Stats"
+} external;
+
+isolated function nativeTerminateTree(Process process, decimal gracePeriod) returns int|Error = @java:Method {
+    name: "terminateTree",
+    'class: "io.ballerina.stdlib.os.nativeimpl.TerminateTree"
+} external;
+
+isolated function nativeOutput(Process process, int fileOutputStream, decimal? timeout) returns byte[]|Error =
+@java:Method {
     name: "output",
     'class: "io.ballerina.stdlib.os.nativeimpl.Output"
 } external;
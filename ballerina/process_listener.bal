@@ -0,0 +1,138 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Configurations of a process listener.
+#
+# + maxBatchSize - The maximum number of bytes delivered in a single `onStdout` or `onStderr` call. The output, which
+# arrives while the service is busy, is coalesced into chunks of up to this size, and larger output is split
+public type ProcessListenerConfig record {|
+    int maxBatchSize = 65536;
+|};
+
+# Represents a service, which receives the output and the exit of a process as they happen.
+# The service can implement any of the following remote methods, and the events without a remote method are dropped.
+# - `onStdout(byte[] chunk)` - Called with the data written to the standard output
+# - `onStderr(byte[] chunk)` - Called with the data written to the standard error
+# - `onExit(int exitCode)` - Called once the process has exited, after all of its output has been delivered
+public type ProcessService distinct service object {
+};
+
+# Represents a listener, which pushes the output and the exit of a started process to the attached service.
+# The output is read in the background without a strand being dedicated to the process. The remote methods of the
+# service are called one at a time, in the order in which the output was written, and the output written while a
+# remote method is running is delivered in a single call. While the service is falling behind, the output is no longer
+# read, so that the process is blocked on a write instead of its output being buffered without a limit. A remote
+# method, which returns an error or panics, is logged, and the next event is still delivered.
+# ```ballerina
+# listener os:ProcessListener tailer = new (check os:exec({value: "tail", arguments: ["-F", logPath]}));
+#
+# service on tailer {
+#     remote function onStdout(byte[] chunk) returns error? {
+#         io:print(check string:fromBytes(chunk));
+#     }
+# }
+# ```
+public isolated class ProcessListener {
+
+    # Creates a listener for the given process.
+    #
+    # + process - The process, of which the output and the exit are pushed to the service
+    # + config - The configurations of the listener
+    # + return - An `Error` if the configurations are invalid, or else `()`
+    public isolated function init(Process process, *ProcessListenerConfig config) returns Error? {
+        if config.maxBatchSize <= 0 {
+            return error Error("The maximum batch size must be a positive integer");
+        }
+        nativeProcessListenerInit(self, process, config.maxBatchSize);
+    }
+
+    # Attaches a service to the listener. Only one service can be attached to a listener.
+    #
+    # + s - The service to be attached
+    # + name - The name of the service, which is not used
+    # + return - An `Error` if a service is already attached, or else `()`
+    public isolated function attach(ProcessService s, string[]|string? name = ()) returns Error? {
+        return nativeProcessListenerAttach(self, s);
+    }
+
+    # Detaches the service from the listener. The service does not receive any further events, and another service can
+    # then be attached and the listener started again, continuing from the output not yet delivered.
+    #
+    # + s - The service to be detached
+    # + return - An `Error` if the service is not attached to the listener, or else `()`
+    public isolated function detach(ProcessService s) returns Error? {
+        return nativeProcessListenerDetach(self, s);
+    }
+
+    # Starts pushing the output and the exit of the process to the attached service.
+    #
+    # + return - An `Error` if no service is attached or the listener has already been started, or else `()`
+    public isolated function 'start() returns Error? {
+        return nativeProcessListenerStart(self);
+    }
+
+    # Stops pushing events to the service once the output read so far has been delivered, and waits until then. If the
+    # process has already exited, all of its output and its exit are delivered first. The process is not terminated,
+    # and its further output is still read and discarded.
+    #
+    # + return - An `Error` if the wait is interrupted, or else `()`
+    public isolated function gracefulStop() returns Error? {
+        return nativeProcessListenerGracefulStop(self);
+    }
+
+    # Stops pushing events to the service right away. A remote method call, which is in progress, is allowed to
+    # finish. The process is not terminated, and its output is still read and discarded.
+    #
+    # + return - `()`
+    public isolated function immediateStop() returns Error? {
+        nativeProcessListenerImmediateStop(self);
+    }
+}
+
+isolated function nativeProcessListenerInit(ProcessListener processListener, Process process, int maxBatchSize) =
+@java:Method {
+    name: "init",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
+
+isolated function nativeProcessListenerAttach(ProcessListener processListener, ProcessService s)
+        returns Error? = @java:Method {
+    name: "attach",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
+
+isolated function nativeProcessListenerDetach(ProcessListener processListener, ProcessService s)
+        returns Error? = @java:Method {
+    name: "detach",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
+
+isolated function nativeProcessListenerStart(ProcessListener processListener) returns Error? = @java:Method {
+    name: "start",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
+
+isolated function nativeProcessListenerGracefulStop(ProcessListener processListener) returns Error? = @java:Method {
+    name: "gracefulStop",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
+
+isolated function nativeProcessListenerImmediateStop(ProcessListener processListener) = @java:Method {
+    name: "immediateStop",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ProcessListener"
+} external;
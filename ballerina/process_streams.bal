@@ -0,0 +1,142 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+
+# Represents the state of the pumps, which read the output of the processes in the background for
+# `Process.output()`, `Process.collect()` and `os:execAll()`.
+#
+# + activePumps - The number of pumps reading an output stream at the moment
+# + totalPumps - The total number of output streams handed to the pumps
+# + pumpedBytes - The total number of bytes read by the pumps
+public type StreamPumpStats record {|
+    int activePumps;
+    int totalPumps;
+    int pumpedBytes;
+|};
+
+# Returns the state of the pumps, which read the output of the processes in the background.
+# ```ballerina
+# os:StreamPumpStats stats = os:getStreamPumpStats();
+# ```
+#
+# + return - The state of the pumps
+public isolated function getStreamPumpStats() returns StreamPumpStats = @java:Method {
+    'class: "io.ballerina.stdlib.os.nativeimpl.StreamPumpStats"
+} external;
+
+# Iterator of the stream returned from `Process.outputStream`, which reads the process output in fixed-size chunks.
+class OutputChunkIterator {
+    private final Process process;
+    private final io:FileOutputStream fileOutputStream;
+    private final int chunkSize;
+
+    isolated function init(Process process, io:FileOutputStream fileOutputStream, int chunkSize) {
+        self.process = process;
+        self.fileOutputStream = fileOutputStream;
+        self.chunkSize = chunkSize;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|Error? {
+        byte[]|Error? chunk = nativeReadChunk(self, self.process, self.fileOutputStream, self.chunkSize);
+        if chunk is byte[] {
+            return {value: chunk};
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns Error? {
+        return nativeCloseOutput(self.process, self.fileOutputStream);
+    }
+}
+
+# Iterator of the stream returned from `Process.lines`, which decodes the process output line by line.
+class LineIterator {
+    private final Process process;
+    private final io:FileOutputStream fileOutputStream;
+
+    isolated function init(Process process, io:FileOutputStream fileOutputStream) {
+        self.process = process;
+        self.fileOutputStream = fileOutputStream;
+    }
+
+    public isolated function next() returns record {|string value;|}|Error? {
+        string|Error? line = nativeReadLine(self, self.process, self.fileOutputStream);
+        if line is string {
+            return {value: line};
+        }
+        return line;
+    }
+
+    public isolated function close() returns Error? {
+        return nativeCloseOutput(self.process, self.fileOutputStream);
+    }
+}
+
+# Iterator of the stream returned from `os:execAllAsStream`, which returns the processes of a batch as they finish.
+class ExecAllIterator {
+
+    isolated function init(Command[] commands, int maxParallel, int? outputLimit, Redirect stdin, Redirect stdout,
+            Redirect stderr, EnvProperties envProperties) {
+        nativeExecAllStart(self, commands, maxParallel, outputLimit, stdin, stdout, stderr, envProperties);
+    }
+
+    public isolated function next() returns record {|CompletedProcess value;|}|Error? {
+        CompletedProcess|Error? completion = nativeExecAllNext(self);
+        if completion is CompletedProcess {
+            return {value: completion};
+        }
+        return completion;
+    }
+
+    public isolated function close() returns Error? {
+        nativeExecAllClose(self);
+    }
+}
+
+isolated function nativeReadChunk(OutputChunkIterator iterator, Process process, int fileOutputStream, int chunkSize)
+        returns byte[]|Error? = @java:Method {
+    name: "readChunk",
+    'class: "io.ballerina.stdlib.os.nativeimpl.OutputChunk"
+} external;
+
+isolated function nativeCloseOutput(Process process, int fileOutputStream) returns Error? = @java:Method {
+    name: "close",
+    'class: "io.ballerina.stdlib.os.nativeimpl.OutputChunk"
+} external;
+
+isolated function nativeReadLine(LineIterator iterator, Process process, int fileOutputStream) returns string|Error? =
+@java:Method {
+    name: "readLine",
+    'class: "io.ballerina.stdlib.os.nativeimpl.Lines"
+} external;
+
+isolated function nativeExecAllStart(ExecAllIterator iterator, Command[] commands, int maxParallel, int? outputLimit,
+        Redirect stdin, Redirect stdout, Redirect stderr, EnvProperties envProperties) = @java:Method {
+    name: "start",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ExecAll"
+} external;
+
+isolated function nativeExecAllNext(ExecAllIterator iterator) returns CompletedProcess|Error? = @java:Method {
+    name: "next",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ExecAll"
+} external;
+
+isolated function nativeExecAllClose(ExecAllIterator iterator) = @java:Method {
+    name: "close",
+    'class: "io.ballerina.stdlib.os.nativeimpl.ExecAll"
+} external;
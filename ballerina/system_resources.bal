@@ -0,0 +1,64 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# The interval in seconds between the samples of the system resources returned by `os:getSystemResources`. It is
+# rounded up to a whole millisecond.
+configurable decimal systemResourcesInterval = 1;
+
+# Represents the resources of the host, as sampled in the background. A value, which cannot be determined on the
+# platform, is `()`. The values other than `availableProcessors` are read from the Linux `/proc` and cgroup files.
+#
+# + availableProcessors - The number of processors available to the program
+# + cpuLimit - The CPU quota of the cgroup of the program in number of CPUs, or `()` if it is not limited
+# + cpuUsage - The fraction of the time all the CPUs of the host were busy between the last two samples
+# + loadAverage1 - The system load average over the last minute
+# + loadAverage5 - The system load average over the last 5 minutes
+# + loadAverage15 - The system load average over the last 15 minutes
+# + totalMemory - The total memory of the host in bytes
+# + availableMemory - The memory of the host available for starting new applications in bytes
+# + memoryLimit - The memory limit of the cgroup of the program in bytes, or `()` if it is not limited
+# + memoryUsage - The memory used by the cgroup of the program in bytes
+public type SystemResources record {|
+    int availableProcessors;
+    float? cpuLimit;
+    float? cpuUsage;
+    float? loadAverage1;
+    float? loadAverage5;
+    float? loadAverage15;
+    int? totalMemory;
+    int? availableMemory;
+    int? memoryLimit;
+    int? memoryUsage;
+|};
+
+# Returns the latest sample of the resources of the host. The resources are sampled in the background at the
+# `systemResourcesInterval`, starting from the first call, so a call does not read any file and returns the same
+# value until the next sample is taken.
+# ```ballerina
+# os:SystemResources resources = os:getSystemResources();
+# ```
+#
+# + return - The latest sample of the resources of the host
+public isolated function getSystemResources() returns readonly & SystemResources = @java:Method {
+    'class: "io.ballerina.stdlib.os.nativeimpl.SystemResources"
+} external;
+
+function configureSystemResources(decimal interval) = @java:Method {
+    name: "configure",
+    'class: "io.ballerina.stdlib.os.nativeimpl.SystemResources"
+} external;
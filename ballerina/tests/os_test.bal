@@ -17,9 +17,20 @@
 import ballerina/jballerina.java;
 import ballerina/test;
 import ballerina/io;
+import ballerina/lang.runtime;
+import ballerina/observe;
 
 configurable string bal_exec_path = ?;
 
+isolated string listenerStdout = "";
+isolated string listenerStderr = "";
+isolated int listenerExitCode = -1;
+isolated int batchedBytes = 0;
+isolated int largestBatch = 0;
+isolated int batchedExitCode = -1;
+isolated string firstServiceStdout = "";
+isolated string secondServiceStdout = "";
+
 function testGetEnv() {
     string expectedValue = getExpectedValidEnv();
     test:assertEquals(getEnv("JAVA_HOME"), expectedValue);
@@ -122,6 +133,285 @@ function testListEnv() {
     test:assertTrue(env.length() > 0);
 }
 
+@test:Config {}
+function testEnvOverlay() returns error? {
+    map<string> before = listEnv();
+    test:assertTrue(before.isReadOnly());
+    check setEnv("OS_TEST_OVERLAY", "overlay");
+    map<string> after = listEnv();
+    test:assertTrue(after.isReadOnly());
+    test:assertEquals(after["OS_TEST_OVERLAY"], "overlay");
+    test:assertFalse(before.hasKey("OS_TEST_OVERLAY"));
+    future<string> otherStrand = start getEnv("OS_TEST_OVERLAY");
+    test:assertEquals(check wait otherStrand, "");
+    check unsetEnv("OS_TEST_OVERLAY");
+    test:assertFalse(listEnv().hasKey("OS_TEST_OVERLAY"));
+}
+
+@test:Config {}
+function testExecWithStrandEnv() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    check setEnv("OS_TEST_EXEC_ENV", "from strand");
+    Process process = check exec({value: "sh", arguments: ["-c", "printf %s \"$OS_TEST_EXEC_ENV\""]});
+    test:assertEquals(check string:fromBytes(check process.output()), "from strand");
+    check unsetEnv("OS_TEST_EXEC_ENV");
+    process = check exec({value: "sh", arguments: ["-c", "printf %s \"$OS_TEST_EXEC_ENV\""]});
+    test:assertEquals(check string:fromBytes(check process.output()), "");
+}
+
+@test:Config {}
+function testExecWithClearEnv() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "/usr/bin/env"}, clearEnv = true, OS_TEST_ONLY = "1");
+    test:assertEquals(check string:fromBytes(check process.output()), "OS_TEST_ONLY=1\n");
+}
+
+@test:Config {}
+function testStreamPumpStats() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    StreamPumpStats before = getStreamPumpStats();
+    Process process = check exec({value: "echo", arguments: ["pumped"]});
+    byte[] output = check process.output();
+    test:assertEquals(check string:fromBytes(output), "pumped\n");
+    StreamPumpStats after = getStreamPumpStats();
+    test:assertTrue(after.totalPumps > before.totalPumps);
+    test:assertTrue(after.pumpedBytes >= before.pumpedBytes + output.length());
+    test:assertTrue(after.activePumps >= 0);
+}
+
+@test:Config {}
+function testGetSystemResources() {
+    SystemResources resources = getSystemResources();
+    test:assertTrue(resources.isReadOnly());
+    test:assertTrue(resources.availableProcessors > 0);
+    if isWindowsEnvironment() {
+        return;
+    }
+    int? totalMemory = resources.totalMemory;
+    int? availableMemory = resources.availableMemory;
+    if totalMemory is int && availableMemory is int {
+        test:assertTrue(availableMemory <= totalMemory);
+    } else {
+        test:assertFail("The memory of the host was not sampled");
+    }
+    test:assertTrue(resources.loadAverage1 is float);
+}
+
+@test:Config {}
+function testProcessListener() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "printf out; printf err >&2; printf put; exit 3"]});
+    ProcessListener processListener = check new (process);
+    ProcessService processService = service object {
+        remote function onStdout(byte[] chunk) returns error? {
+            string text = check string:fromBytes(chunk);
+            lock {
+                listenerStdout += text;
+            }
+        }
+
+        remote function onStderr(byte[] chunk) returns error? {
+            string text = check string:fromBytes(chunk);
+            lock {
+                listenerStderr += text;
+            }
+        }
+
+        remote function onExit(int exitCode) {
+            lock {
+                listenerExitCode = exitCode;
+            }
+        }
+    };
+    check processListener.attach(processService);
+    test:assertTrue(processListener.attach(processService) is Error);
+    check processListener.'start();
+    foreach int i in 0 ..< 100 {
+        lock {
+            if listenerExitCode != -1 {
+                break;
+            }
+        }
+        runtime:sleep(0.05);
+    }
+    check processListener.gracefulStop();
+    lock {
+        test:assertEquals(listenerExitCode, 3);
+    }
+    lock {
+        test:assertEquals(listenerStdout, "output");
+    }
+    lock {
+        test:assertEquals(listenerStderr, "err");
+    }
+}
+
+@test:Config {}
+function testProcessListenerBatchSizeAndFailingService() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "head -c 20000 /dev/zero; echo err >&2"]});
+    ProcessListener processListener = check new (process, maxBatchSize = 1000);
+    ProcessService processService = service object {
+        remote function onStdout(byte[] chunk) {
+            lock {
+                batchedBytes += chunk.length();
+                if chunk.length() > largestBatch {
+                    largestBatch = chunk.length();
+                }
+            }
+        }
+
+        remote function onStderr(byte[] chunk) {
+            panic error("The service failed to handle the standard error");
+        }
+
+        remote function onExit(int exitCode) {
+            lock {
+                batchedExitCode = exitCode;
+            }
+        }
+    };
+    check processListener.attach(processService);
+    check processListener.'start();
+    foreach int i in 0 ..< 100 {
+        lock {
+            if batchedExitCode != -1 {
+                break;
+            }
+        }
+        runtime:sleep(0.05);
+    }
+    check processListener.gracefulStop();
+    lock {
+        test:assertEquals(batchedExitCode, 0);
+    }
+    lock {
+        test:assertEquals(batchedBytes, 20000);
+    }
+    lock {
+        test:assertTrue(largestBatch <= 1000, string `A batch of ${largestBatch} bytes exceeded the limit`);
+    }
+}
+
+@test:Config {}
+function testProcessListenerReattach() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "echo one; read line; echo two"]});
+    ProcessListener processListener = check new (process);
+    ProcessService firstService = service object {
+        remote function onStdout(byte[] chunk) returns error? {
+            string text = check string:fromBytes(chunk);
+            lock {
+                firstServiceStdout += text;
+            }
+        }
+    };
+    ProcessService secondService = service object {
+        remote function onStdout(byte[] chunk) returns error? {
+            string text = check string:fromBytes(chunk);
+            lock {
+                secondServiceStdout += text;
+            }
+        }
+    };
+    check processListener.attach(firstService);
+    check processListener.'start();
+    foreach int i in 0 ..< 100 {
+        lock {
+            if firstServiceStdout != "" {
+                break;
+            }
+        }
+        runtime:sleep(0.05);
+    }
+    check processListener.detach(firstService);
+    check processListener.attach(secondService);
+    check processListener.'start();
+    check process.closeInput();
+    _ = check process.waitForExit();
+    check processListener.gracefulStop();
+    lock {
+        test:assertEquals(firstServiceStdout, "one\n");
+    }
+    lock {
+        test:assertEquals(secondServiceStdout, "two\n");
+    }
+}
+
+@test:Config {}
+function testWaitAnyAndWaitAll() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process slow = check exec({value: "sleep", arguments: ["2"]});
+    Process fast = check exec({value: "sh", arguments: ["-c", "exit 4"]});
+    ExitedProcess exited = check waitAny([slow, fast]);
+    test:assertEquals(exited.index, 1);
+    test:assertEquals(exited.exitCode, 4);
+    test:assertTrue(exited.process === fast);
+
+    int[] exitCodes = check waitAll([slow, fast]);
+    test:assertEquals(exitCodes, [0, 4]);
+    test:assertEquals(check waitAll([]), []);
+    test:assertTrue(waitAny([]) is Error);
+}
+
+@test:Config {}
+function testWaitAllTimeout() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process slow = check exec({value: "sleep", arguments: ["30"]});
+    Process fast = check exec({value: "true"});
+    int[]|Error result = waitAll([slow, fast], 0.5);
+    if result is TimeoutError {
+        test:assertEquals(result.message(), "1 of the 2 processes did not exit within the timeout");
+    } else {
+        test:assertFail("waitAll did not time out");
+    }
+    test:assertNotEquals(check slow.waitForExit(), 0);
+}
+
+@test:Config {}
+function testCommandTemplate() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    CommandTemplate template = new ({value: "printf", arguments: ["%s and %s", "{}", "{}"]});
+    Process process = check template.exec(["first", "second"]);
+    test:assertEquals(check string:fromBytes(check process.output()), "first and second");
+    process = check template.exec(["third", "fourth"]);
+    test:assertEquals(check string:fromBytes(check process.output()), "third and fourth");
+    Process|Error result = template.exec(["only"]);
+    if result is Error {
+        test:assertEquals(result.message(), "The command template has 2 placeholders, but 1 values were given");
+    } else {
+        test:assertFail("exec did not return an error for a missing placeholder value");
+    }
+    test:assertEquals(template.stats(), {started: 2, failed: 0});
+
+    CommandTemplate envTemplate = new ({value: "sh", arguments: ["-c", "printf %s \"$OS_TEST_TEMPLATE\""]},
+        OS_TEST_TEMPLATE = "from template");
+    process = check envTemplate.exec();
+    test:assertEquals(check string:fromBytes(check process.output()), "from template");
+
+    CommandTemplate escapedTemplate = new ({value: "printf", arguments: ["%s %s", "{}", "{{}}"]});
+    process = check escapedTemplate.exec(["bound"]);
+    test:assertEquals(check string:fromBytes(check process.output()), "bound {}");
+}
+
 @test:Config {}
 function testGetSystemPropertyNegative() {
     test:assertEquals(getSystemProperty("non-existing-key"), "");
@@ -168,6 +458,93 @@ function testExec() returns error? {
     test:assertEquals(outputString.trim(), "hello world");
 }
 
+@test:Config {}
+function testWaitForExitWithManyConcurrentStrands() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    future<int|Error>[] futures = [];
+    foreach int i in 0 ..< 2000 {
+        Process process = check exec({value: "sleep", arguments: ["1"]});
+        futures.push(start process.waitForExit());
+    }
+    foreach future<int|Error> f in futures {
+        int exitCode = check wait f;
+        test:assertEquals(exitCode, 0);
+    }
+}
+
+@test:Config {}
+function testWaitForExitWithTimeout() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sleep", arguments: ["10"]});
+    int|Error exitCode = process.waitForExit(0.5);
+    test:assertTrue(exitCode is TimeoutError);
+    // The process is terminated when the timeout expires.
+    exitCode = process.waitForExit(5);
+    test:assertTrue(exitCode is int && exitCode != 0);
+
+    process = check exec({value: "echo", arguments: ["hello world"]});
+    test:assertEquals(check process.waitForExit(5), 0);
+}
+
+@test:Config {}
+function testOutputWithTimeout() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "echo started; sleep 10"]});
+    byte[]|Error outputBytes = process.output(timeout = 0.5);
+    test:assertTrue(outputBytes is TimeoutError);
+
+    process = check exec({value: "echo", arguments: ["hello world"]});
+    outputBytes = process.output(timeout = 5);
+    if outputBytes is byte[] {
+        test:assertEquals((check string:fromBytes(outputBytes)).trim(), "hello world");
+    } else {
+        test:assertFail("output did not return the output within the timeout: " + outputBytes.message());
+    }
+}
+
+@test:Config {}
+function testOutputWithTimeoutTerminatesDescendants() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "mktemp"});
+    string pidFile = (check string:fromBytes(check process.output())).trim();
+    // The background sleep inherits the standard output of the shell, so its pipe stays open after the shell exits.
+    process = check exec({value: "sh", arguments: ["-c", string `sleep 30 & echo $! > ${pidFile}; wait`]});
+    runtime:sleep(0.2);
+    byte[]|Error outputBytes = process.output(timeout = 0.5);
+    test:assertTrue(outputBytes is TimeoutError);
+
+    process = check exec({value: "cat", arguments: [pidFile]});
+    string pid = (check string:fromBytes(check process.output())).trim();
+    process = check exec({value: "rm", arguments: ["-f", pidFile]});
+    _ = check process.waitForExit();
+    runtime:sleep(0.2);
+    // The background sleep is either gone or a zombie, which has not been reaped yet.
+    process = check exec({value: "sh", arguments: ["-c", string `ps -o stat= -p ${pid} | grep -v Z`]});
+    test:assertNotEquals(check process.waitForExit(), 0);
+}
+
+@test:Config {}
+function testCollectWithTimeout() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sleep", arguments: ["10"]});
+    ProcessResult|Error result = process.collect(timeout = 0.5);
+    if result is TimeoutError {
+        test:assertEquals(result.message(), "The process did not finish within the timeout");
+    } else {
+        test:assertFail("collect did not return a TimeoutError");
+    }
+}
+
 @test:Config {}
 function testExecOutputWithoutWaitForExit() returns error? {
     Process process = check exec({value: "echo", arguments: ["hello world"]});
@@ -177,6 +554,117 @@ function testExecOutputWithoutWaitForExit() returns error? {
     test:assertEquals(outputString.trim(), "hello world");
 }
 
+@test:Config {}
+function testExecOutputStream() returns error? {
+    Process process = check exec({value: "echo", arguments: ["hello world"]});
+    stream<byte[], Error?> chunks = check process.outputStream(io:stdout, 4);
+    byte[] outputBytes = [];
+    int chunkCount = 0;
+    check from byte[] chunk in chunks
+        do {
+            test:assertTrue(chunk.length() <= 4);
+            outputBytes.push(...chunk);
+            chunkCount += 1;
+        };
+    test:assertTrue(chunkCount >= 3);
+    test:assertEquals((check string:fromBytes(outputBytes)).trim(), "hello world");
+}
+
+@test:Config {}
+function testExecOutputStreamNegative() returns error? {
+    Process process = check exec({value: "echo", arguments: ["hello world"]});
+    stream<byte[], Error?>|Error chunks = process.outputStream(chunkSize = 0);
+    if chunks is Error {
+        test:assertEquals(chunks.message(), "The chunk size must be a positive integer");
+    } else {
+        test:assertFail("outputStream did not return an error for a zero chunk size");
+    }
+}
+
+@test:Config {}
+function testExecLines() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "printf 'first\\nsecond\\r\\nthird'"]});
+    string[] lines = check from string line in process.lines() select line;
+    test:assertEquals(lines, ["first", "second", "third"]);
+}
+
+@test:Config {}
+function testExecWriteInput() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sort"});
+    check process.writeInput("banana\ncherry\n".toBytes());
+    check process.writeInput("apple\n".toBytes());
+    check process.closeInput();
+    ProcessResult result = check process.collect();
+    test:assertEquals(result.exitCode, 0);
+    test:assertEquals(check string:fromBytes(result.stdout), "apple\nbanana\ncherry\n");
+}
+
+@test:Config {}
+function testExecPipeInput() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "wc", arguments: ["-c"]});
+    byte[] chunk = from int i in 0 ..< 10000 select 97;
+    byte[][] chunks = from int i in 0 ..< 100 select chunk;
+    check process.pipeInput(chunks.toStream());
+    check process.closeInput();
+    byte[] outputBytes = check process.output();
+    test:assertEquals((check string:fromBytes(outputBytes)).trim(), "1000000");
+}
+
+@test:Config {}
+function testExecCapture() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "printf 'head'; head -c 100000 /dev/zero; printf 'tail'"]});
+    CapturedOutput output = check process.capture(headLimit = 4, tailLimit = 4);
+    test:assertEquals(check string:fromBytes(output.head), "head");
+    test:assertEquals(check string:fromBytes(output.tail), "tail");
+    test:assertEquals(output.droppedBytes, 100000);
+}
+
+@test:Config {}
+function testExecCaptureWithinLimits() returns error? {
+    Process process = check exec({value: "echo", arguments: ["hello world"]});
+    CapturedOutput output = check process.capture(headLimit = 5);
+    test:assertEquals(check string:fromBytes(output.head), "hello");
+    test:assertEquals((check string:fromBytes(output.tail)).trim(), "world");
+    test:assertEquals(output.droppedBytes, 0);
+}
+
+@test:Config {}
+function testExecCollect() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "echo out; echo err 1>&2; exit 3"]});
+    ProcessResult result = check process.collect();
+    test:assertEquals(result.exitCode, 3);
+    test:assertEquals((check string:fromBytes(result.stdout)).trim(), "out");
+    test:assertEquals((check string:fromBytes(result.stderr)).trim(), "err");
+}
+
+@test:Config {}
+function testExecCollectWithLimits() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c",
+        "head -c 1000000 /dev/zero; head -c 1000000 /dev/zero 1>&2"]});
+    ProcessResult result = check process.collect(stdoutLimit = 10, stderrLimit = 20);
+    test:assertEquals(result.exitCode, 0);
+    test:assertEquals(result.stdout.length(), 10);
+    test:assertEquals(result.stderr.length(), 20);
+}
+
 @test:Config {}
 function testExecWithOutputStdOut() returns error? {
     Process process = check exec({value: bal_exec_path, arguments: ["run", "tests/resources/hello1.bal"]});
@@ -244,6 +732,291 @@ function testExecExit() returns error? {
     }
 }
 
+@test:Config {}
+function testExecWithFileRedirects() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "mktemp"});
+    string path = (check string:fromBytes(check process.output())).trim();
+    process = check exec({value: "echo", arguments: ["first"]}, stdout = {path});
+    test:assertEquals(check process.waitForExit(), 0);
+    process = check exec({value: "echo", arguments: ["second"]}, stdout = {path, append: true});
+    test:assertEquals(check process.waitForExit(), 0);
+
+    process = check exec({value: "cat"}, stdin = {path});
+    byte[] outputBytes = check process.output();
+    process = check exec({value: "rm", arguments: ["-f", path]});
+    test:assertEquals(check process.waitForExit(), 0);
+    test:assertEquals(check string:fromBytes(outputBytes), "first\nsecond\n");
+}
+
+@test:Config {}
+function testExecWithRedirectNamedEnvVariable() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "printf %s \"$stdout\""]}, PIPE, PIPE, PIPE,
+            {stdout: "variable"});
+    test:assertEquals(check string:fromBytes(check process.output()), "variable");
+}
+
+@test:Config {}
+function testExecWithDiscardRedirects() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "cat"}, stdin = DISCARD, stderr = DISCARD);
+    test:assertEquals(check process.waitForExit(), 0);
+    byte[] outputBytes = check process.output();
+    test:assertEquals(outputBytes.length(), 0);
+
+    process = check exec({value: "echo", arguments: ["hello world"]}, stdout = DISCARD);
+    test:assertEquals(check process.waitForExit(), 0);
+    outputBytes = check process.output();
+    test:assertEquals(outputBytes.length(), 0);
+}
+
+@test:Config {}
+function testPipeline() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process[] processes = check pipeline([
+        {value: "printf", arguments: ["b\\na\\nb\\nc\\n"]},
+        {value: "sort"},
+        {value: "uniq"}
+    ]);
+    test:assertEquals(processes.length(), 3);
+    byte[] outputBytes = check processes[2].output();
+    test:assertEquals(check string:fromBytes(outputBytes), "a\nb\nc\n");
+    foreach Process process in processes {
+        test:assertEquals(check process.waitForExit(), 0);
+    }
+}
+
+@test:Config {}
+function testPipelineNegative() {
+    Process[]|Error processes = pipeline([]);
+    if processes is Error {
+        test:assertEquals(processes.message(), "The pipeline must have at least one stage");
+    } else {
+        test:assertFail("pipeline did not return an error for an empty list of stages");
+    }
+}
+
+@test:Config {}
+function testExecAll() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Command[] commands = from int i in 0 ..< 20
+        select {value: "sh", arguments: ["-c", string `sleep 0.0${20 - i}; echo ${i}; exit ${i}`]};
+    (ProcessResult|Error)[] results = check execAll(commands, 4);
+    test:assertEquals(results.length(), 20);
+    foreach int i in 0 ..< 20 {
+        ProcessResult result = check results[i];
+        test:assertEquals(result.exitCode, i);
+        test:assertEquals((check string:fromBytes(result.stdout)).trim(), i.toString());
+    }
+}
+
+@test:Config {}
+function testExecAllAsStream() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    stream<CompletedProcess, Error?> completions = check execAllAsStream([
+        {value: "sleep", arguments: ["1"]},
+        {value: "foo"},
+        {value: "true"}
+    ], 3);
+    int[] indexes = check from CompletedProcess completion in completions select completion.index;
+    test:assertEquals(indexes.length(), 3);
+    test:assertEquals(indexes[2], 0);
+}
+
+@test:Config {}
+function testExecAllOutputLimit() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    (ProcessResult|Error)[] results = check execAll([{value: "printf", arguments: ["abcdef"]}], outputLimit = 3);
+    ProcessResult result = check results[0];
+    test:assertEquals(check string:fromBytes(result.stdout), "abc");
+}
+
+@test:Config {}
+function testExecAllNegative() {
+    (ProcessResult|Error)[]|Error results = execAll([{value: "true"}], 0);
+    if results is Error {
+        test:assertEquals(results.message(), "The maximum number of parallel processes must be a positive integer");
+    } else {
+        test:assertFail("execAll did not return an error for a non-positive parallelism");
+    }
+}
+
+@test:Config {}
+function testGetExecQueueStats() returns error? {
+    Process process = check exec({value: "echo", arguments: ["hello world"]});
+    _ = check process.waitForExit();
+    ExecQueueStats stats = getExecQueueStats();
+    test:assertEquals(stats.queuedExecs, 0);
+    test:assertTrue(stats.runningProcesses >= 0);
+    test:assertTrue(stats.maxWaitTime >= 0d);
+}
+
+@test:Config {}
+function testCoprocess() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Coprocess coprocess = check new ({value: "cat"}, poolSize = 2);
+    foreach int i in 0 ..< 100 {
+        byte[] response = check coprocess.call(i.toString().toBytes());
+        test:assertEquals(check string:fromBytes(response), i.toString());
+    }
+    test:assertEquals(coprocess.checkHealth(), 2);
+    coprocess.close();
+}
+
+@test:Config {}
+function testCoprocessWithNulFraming() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Coprocess coprocess = check new ({value: "cat"}, framing = NUL);
+    byte[] response = check coprocess.call("multi\nline".toBytes());
+    test:assertEquals(check string:fromBytes(response), "multi\nline");
+    byte[]|Error invalid = coprocess.call([104, 0, 105]);
+    if invalid is Error {
+        test:assertEquals(invalid.message(), "Failed to call the coprocess: The request contains the frame delimiter");
+    } else {
+        test:assertFail("call did not return an error for a request containing the frame delimiter");
+    }
+    coprocess.close();
+}
+
+@test:Config {}
+function testCoprocessRestart() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Coprocess coprocess = check new ({value: "head", arguments: ["-n", "1"]});
+    byte[] response = check coprocess.call("first".toBytes());
+    test:assertEquals(check string:fromBytes(response), "first");
+    // The worker exits after the first response. Depending on when the exit is observed, it is restarted either
+    // before the next request or after the next exchange fails.
+    byte[]|Error secondResponse = coprocess.call("second".toBytes());
+    if secondResponse is Error {
+        secondResponse = coprocess.call("second".toBytes());
+    }
+    test:assertEquals(check string:fromBytes(check secondResponse), "second");
+    coprocess.close();
+}
+
+@test:Config {}
+function testCoprocessInvalidResponse() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    // The worker responds with a length prefix of -1.
+    string script = "head -c 5 > /dev/null; printf '\\377\\377\\377\\377'";
+    Coprocess coprocess = check new ({value: "sh", arguments: ["-c", script]}, framing = LENGTH_PREFIX);
+    byte[]|Error response = coprocess.call([1]);
+    if response is Error {
+        test:assertEquals(response.message(),
+            "Failed to call the coprocess: The coprocess responded with an invalid frame length: -1");
+    } else {
+        test:assertFail("call did not return an error for an invalid frame length");
+    }
+    coprocess.close();
+}
+
+@test:Config {}
+function testCoprocessTimeout() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Coprocess coprocess = check new ({value: "sh", arguments: ["-c", "cat > /dev/null"]}, timeout = 0.5);
+    byte[]|Error response = coprocess.call("request".toBytes());
+    test:assertTrue(response is TimeoutError);
+    coprocess.close();
+    response = coprocess.call("request".toBytes());
+    if response is Error {
+        test:assertEquals(response.message(), "Failed to call the coprocess: Coprocess is closed");
+    } else {
+        test:assertFail("call did not return an error after the coprocess was closed");
+    }
+}
+
+@test:Config {}
+function testProcessStats() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "echo ready; read line"]});
+    record {|string value;|}? ready = check process.lines().next();
+    test:assertEquals(ready?.value, "ready");
+    ProcessStats stats = process.stats();
+    test:assertTrue(stats.alive);
+    test:assertTrue(stats.pid > 0);
+    test:assertTrue(stats.wallTime >= 0d);
+    int? rss = stats.rss;
+    if rss is int {
+        test:assertTrue(rss > 0);
+    }
+
+    check process.closeInput();
+    _ = check process.waitForExit();
+    ProcessStats finalStats = process.stats();
+    test:assertFalse(finalStats.alive);
+    test:assertEquals(finalStats.pid, stats.pid);
+    // The usage is sampled in the background until the exit, so the final usage may be newer than the first one.
+    test:assertEquals(finalStats.rss is int, stats.rss is int);
+    test:assertTrue(finalStats.wallTime >= stats.wallTime);
+}
+
+@test:Config {}
+function testProcessStatsAfterExit() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    // The usage is sampled from the start of the process, so it is known after the exit without an earlier call.
+    Process process = check exec({value: "sleep", arguments: ["0.2"]});
+    _ = check process.waitForExit();
+    ProcessStats stats = process.stats();
+    test:assertFalse(stats.alive);
+    test:assertTrue(stats.pid > 0);
+    test:assertTrue(stats.cpuTime is decimal);
+    test:assertTrue(stats.wallTime >= 0.2d);
+}
+
+@test:Config {}
+function testTerminateTree() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "sleep 30 & sleep 30 & echo ready; wait"]});
+    record {|string value;|}? ready = check process.lines().next();
+    test:assertEquals(ready?.value, "ready");
+    int reaped = check process.terminateTree(5);
+    test:assertEquals(reaped, 3);
+}
+
+@test:Config {}
+function testTerminateTreeWithForcibleEscalation() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "trap '' TERM; sleep 30 & echo ready; wait"]});
+    record {|string value;|}? ready = check process.lines().next();
+    test:assertEquals(ready?.value, "ready");
+    int reaped = check process.terminateTree(0.5);
+    test:assertEquals(reaped, 2);
+    test:assertNotEquals(check process.waitForExit(), 0);
+}
+
 @test:Config {}
 function testExecNegative() returns error? {
     Process|Error process = exec({value: "foo"});
@@ -272,3 +1045,52 @@ isolated function nativeGetSystemPropery(handle key) returns handle = @java:Meth
     'class: "java.lang.System",
     paramTypes: ["java.lang.String"]
 } external;
+
+@test:Config {}
+function testProcessMetrics() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    Process process = check exec({value: "sh", arguments: ["-c", "printf metrics; exit 3"]});
+    byte[] output = check process.output();
+    test:assertEquals(check process.waitForExit(), 3);
+    // The exit is recorded by a callback, which may run after the wait returns.
+    runtime:sleep(0.1);
+
+    observe:Gauge|observe:Counter? spawnLatency = observe:lookupMetric("os_exec_spawn_latency_seconds",
+        {executable: "sh"});
+    test:assertTrue(spawnLatency is observe:Gauge);
+    observe:Gauge|observe:Counter? outputBytes = observe:lookupMetric("os_exec_output_bytes_total",
+        {executable: "sh", 'stream: "stdout"});
+    if outputBytes is observe:Counter {
+        test:assertTrue(outputBytes.getValue() >= output.length());
+    } else {
+        test:assertFail("The output bytes were not recorded");
+    }
+    observe:Gauge|observe:Counter? nonZeroExits = observe:lookupMetric("os_exec_non_zero_exits_total",
+        {executable: "sh"});
+    if nonZeroExits is observe:Counter {
+        test:assertTrue(nonZeroExits.getValue() >= 1);
+    } else {
+        test:assertFail("The non-zero exit was not recorded");
+    }
+}
+
+@test:Config {}
+function testCoprocessMetrics() returns error? {
+    if isWindowsEnvironment() {
+        return;
+    }
+    float liveBefore = getLiveProcesses("tee");
+    Coprocess coprocess = check new ({value: "tee"}, poolSize = 2);
+    test:assertEquals(getLiveProcesses("tee"), liveBefore + 2.0);
+    coprocess.close();
+    runtime:sleep(0.2);
+    test:assertEquals(getLiveProcesses("tee"), liveBefore);
+}
+
+isolated function getLiveProcesses(string executable) returns float {
+    observe:Gauge|observe:Counter? liveProcesses = observe:lookupMetric("os_exec_live_processes",
+        {executable});
+    return liveProcesses is observe:Gauge ? liveProcesses.getValue() : 0.0;
+}
@@ -29,6 +29,31 @@ public function executeCommand(string userInput) returns os:Process|error {
     return result;
 }
 
+public function executePipeline(string userInput) returns os:Process[]|error {
+    return os:pipeline([{value: "/bin/sh", arguments: ["-c", userInput]}, {value: "wc"}]);
+}
+
+public function executeAll(string userInput) returns (os:ProcessResult|os:Error)[]|error {
+    return os:execAll([{value: "ls", arguments: [userInput]}]);
+}
+
+public function executeAllAsStream(string userInput) returns stream<os:CompletedProcess, os:Error?>|error {
+    return os:execAllAsStream([{value: "ls", arguments: [userInput]}]);
+}
+
+public function executeTemplate(string userInput) returns os:Process|error {
+    os:CommandTemplate template = new ({value: "ls", arguments: [userInput]});
+    return template.exec();
+}
+
+public function startCoprocess(string userInput) returns os:Coprocess|error {
+    return new os:Coprocess({value: "cat", arguments: [userInput]});
+}
+
+public function listFiles() returns os:Process[]|error {
+    return os:pipeline([{value: "ls", arguments: ["-l"]}]);
+}
+
 public function main() {
     string userCommand = "ls";
     os:Process|error output = executeCommand(userCommand);
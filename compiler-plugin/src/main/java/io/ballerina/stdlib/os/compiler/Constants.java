@@ -28,6 +28,11 @@ public class Constants {
     public static final String PUBLIC_QUALIFIER = "public";
     public static final String OS = "os";
     public static final String EXEC = "exec";
+    public static final String PIPELINE = "pipeline";
+    public static final String EXEC_ALL = "execAll";
+    public static final String EXEC_ALL_AS_STREAM = "execAllAsStream";
+    public static final String COMMAND_TEMPLATE = "CommandTemplate";
+    public static final String COPROCESS = "Coprocess";
     public static final String ARGUMENTS = "arguments";
     public static final String BALLERINA_ORG = "ballerina";
 }
@@ -22,17 +22,21 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.AssignmentStatementNode;
+import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.FunctionCallExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
 import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
 import io.ballerina.compiler.syntax.tree.ImportPrefixNode;
 import io.ballerina.compiler.syntax.tree.ListConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
@@ -42,6 +46,7 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.plugins.AnalysisTask;
@@ -51,19 +56,29 @@ import io.ballerina.tools.diagnostics.Location;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import static io.ballerina.stdlib.os.compiler.Constants.ARGUMENTS;
 import static io.ballerina.stdlib.os.compiler.Constants.BALLERINA_ORG;
+import static io.ballerina.stdlib.os.compiler.Constants.COMMAND_TEMPLATE;
+import static io.ballerina.stdlib.os.compiler.Constants.COPROCESS;
 import static io.ballerina.stdlib.os.compiler.Constants.EXEC;
+import static io.ballerina.stdlib.os.compiler.Constants.EXEC_ALL;
+import static io.ballerina.stdlib.os.compiler.Constants.EXEC_ALL_AS_STREAM;
 import static io.ballerina.stdlib.os.compiler.Constants.OS;
+import static io.ballerina.stdlib.os.compiler.Constants.PIPELINE;
 import static io.ballerina.stdlib.os.compiler.Constants.PUBLIC_QUALIFIER;
 import static io.ballerina.stdlib.os.compiler.staticcodeanalyzer.OSRule.AVOID_UNSANITIZED_CMD_ARGS;
 
 /**
- * Analyzes function calls for potential command injection vulnerabilities.
+ * Analyzes the function calls and the object constructions, which start processes from commands, for potential
+ * command injection vulnerabilities.
  */
 public class OSCommandInjectionAnalyzer implements AnalysisTask<SyntaxNodeAnalysisContext> {
 
+    private static final Set<String> EXEC_FUNCTIONS = Set.of(EXEC, PIPELINE, EXEC_ALL, EXEC_ALL_AS_STREAM);
+    private static final Set<String> COMMAND_CLASSES = Set.of(COMMAND_TEMPLATE, COPROCESS);
+
     private final Reporter reporter;
 
     public OSCommandInjectionAnalyzer(Reporter reporter) {
@@ -72,10 +87,6 @@ public class OSCommandInjectionAnalyzer implements AnalysisTask<SyntaxNodeAnalys
 
     @Override
     public void perform(SyntaxNodeAnalysisContext context) {
-        if (!(context.node() instanceof FunctionCallExpressionNode functionCall)) {
-            return;
-        }
-
         Document document = getDocument(context);
         List<String> importPrefix = new ArrayList<>();
         if (document.syntaxTree().rootNode() instanceof ModulePartNode modulePartNode) {
@@ -92,21 +103,66 @@ public class OSCommandInjectionAnalyzer implements AnalysisTask<SyntaxNodeAnalys
                     }).toList();
         }
 
-        if (!isOsExecCall(functionCall, importPrefix)) {
+        SeparatedNodeList<FunctionArgumentNode> arguments;
+        Node node = context.node();
+        if (node instanceof FunctionCallExpressionNode functionCall && isOsExecCall(functionCall, importPrefix)) {
+            arguments = functionCall.arguments();
+        } else if (node instanceof ExplicitNewExpressionNode newExpression
+                && isOsCommandClass(newExpression.typeDescriptor(), importPrefix)) {
+            arguments = newExpression.parenthesizedArgList().arguments();
+        } else if (node instanceof ImplicitNewExpressionNode newExpression
+                && newExpression.parenthesizedArgList().isPresent()
+                && isOsCommandClass(getDeclaredType(newExpression), importPrefix)) {
+            arguments = newExpression.parenthesizedArgList().get().arguments();
+        } else {
             return;
         }
 
-        if (containsUserControlledInput(functionCall.arguments(), context)) {
-            Location location = functionCall.location();
+        if (containsUserControlledInput(arguments, context)) {
+            Location location = node.location();
             this.reporter.reportIssue(document, location, AVOID_UNSANITIZED_CMD_ARGS.getId());
         }
     }
 
+    /**
+     * Returns whether the call is to one of the `os` functions, which start processes from commands.
+     */
     public static boolean isOsExecCall(FunctionCallExpressionNode functionCall, List<String> importPrefix) {
         if (!(functionCall.functionName() instanceof QualifiedNameReferenceNode qNode)) {
             return false;
         }
-        return importPrefix.contains(qNode.modulePrefix().text()) && qNode.identifier().text().equals(EXEC);
+        return importPrefix.contains(qNode.modulePrefix().text())
+                && EXEC_FUNCTIONS.contains(qNode.identifier().text());
+    }
+
+    /**
+     * Returns whether the type is one of the `os` classes, which are constructed from a command, or a union
+     * containing one of them.
+     */
+    private static boolean isOsCommandClass(Node typeDescriptor, List<String> importPrefix) {
+        return switch (typeDescriptor) {
+            case QualifiedNameReferenceNode qNode -> importPrefix.contains(qNode.modulePrefix().text())
+                    && COMMAND_CLASSES.contains(qNode.identifier().text());
+            case UnionTypeDescriptorNode unionNode -> isOsCommandClass(unionNode.leftTypeDesc(), importPrefix)
+                    || isOsCommandClass(unionNode.rightTypeDesc(), importPrefix);
+            case null, default -> false;
+        };
+    }
+
+    /**
+     * Returns the type of the variable initialized with the implicit new expression, or {@code null} if it is not the
+     * initializer of a variable declaration.
+     */
+    private static Node getDeclaredType(ImplicitNewExpressionNode newExpression) {
+        Node parent = newExpression.parent();
+        while (parent instanceof CheckExpressionNode) {
+            parent = parent.parent();
+        }
+        return switch (parent) {
+            case VariableDeclarationNode varDecl -> varDecl.typedBindingPattern().typeDescriptor();
+            case ModuleVariableDeclarationNode varDecl -> varDecl.typedBindingPattern().typeDescriptor();
+            case null, default -> null;
+        };
     }
 
     public static Document getDocument(SyntaxNodeAnalysisContext context) {
@@ -121,13 +177,24 @@ public class OSCommandInjectionAnalyzer implements AnalysisTask<SyntaxNodeAnalys
                 continue;
             }
 
-            if (isMappingConstructorWithUserControlledInput(expr, context)) {
+            if (isMappingConstructorWithUserControlledInput(expr, context)
+                    || isListOfCommandsWithUserControlledInput(expr, context)) {
                 return true;
             }
         }
         return false;
     }
 
+    private boolean isListOfCommandsWithUserControlledInput(ExpressionNode expr, SyntaxNodeAnalysisContext context) {
+        if (!(expr instanceof ListConstructorExpressionNode listNode)) {
+            return false;
+        }
+
+        return listNode.expressions().stream()
+                .filter(item -> item instanceof ExpressionNode)
+                .anyMatch(item -> isMappingConstructorWithUserControlledInput((ExpressionNode) item, context));
+    }
+
     private ExpressionNode extractExpression(FunctionArgumentNode arg) {
         return switch (arg) {
             case PositionalArgumentNode posArg -> posArg.expression();
@@ -195,7 +262,7 @@ public class OSCommandInjectionAnalyzer implements AnalysisTask<SyntaxNodeAnalys
                 return functionNode.qualifierList().stream()
                         .anyMatch(q -> q.text().equals(PUBLIC_QUALIFIER));
             }
-            parent = node.parent();
+            parent = parent.parent();
         }
         return false;
     }
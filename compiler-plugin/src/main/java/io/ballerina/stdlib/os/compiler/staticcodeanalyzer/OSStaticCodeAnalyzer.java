@@ -24,7 +24,9 @@ import io.ballerina.scan.Reporter;
 
 import java.util.List;
 
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EXPLICIT_NEW_EXPRESSION;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_CALL;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IMPLICIT_NEW_EXPRESSION;
 
 /**
  * The static code analyzer implementation for Ballerina OS package.
@@ -38,6 +40,7 @@ public class OSStaticCodeAnalyzer extends CodeAnalyzer {
 
     @Override
     public void init(CodeAnalysisContext analysisContext) {
-        analysisContext.addSyntaxNodeAnalysisTask(new OSCommandInjectionAnalyzer(reporter), List.of(FUNCTION_CALL));
+        analysisContext.addSyntaxNodeAnalysisTask(new OSCommandInjectionAnalyzer(reporter),
+                List.of(FUNCTION_CALL, EXPLICIT_NEW_EXPRESSION, IMPLICIT_NEW_EXPRESSION));
     }
 }
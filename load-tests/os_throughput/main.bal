@@ -0,0 +1,164 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/os;
+import ballerina/time;
+
+# Number of strands running each scenario concurrently.
+configurable int concurrency = 16;
+# Number of measured operations run by each strand.
+configurable int operationsPerStrand = 200;
+# Number of operations run by each strand before the measurement starts.
+configurable int warmupOperations = 20;
+# Names of the scenarios to run. All the scenarios are run if this is empty.
+configurable string[] scenarios = [];
+# Path of the JSON file, to which the results are written.
+configurable string resultsFile = "target/results.json";
+
+type Operation isolated function (int strand, int iteration) returns error?;
+
+type ScenarioResult record {|
+    string scenario;
+    int concurrency;
+    int operations;
+    decimal opsPerSec;
+    decimal p50Millis;
+    decimal p99Millis;
+    decimal p999Millis;
+|};
+
+final readonly & string[] INPUT = ["the quick brown fox jumps over the lazy dog"];
+final readonly & byte[] INPUT_BYTES = INPUT[0].toBytes().cloneReadOnly();
+
+final readonly & map<Operation> SCENARIOS = {
+    "exec_wait": execWait,
+    "exec_output": execOutput,
+    "exec_cat": execCat,
+    "get_env": getEnv,
+    "set_list_env": setListEnv
+};
+
+public function main() returns error? {
+    ScenarioResult[] results = [];
+    io:println(string `scenario        strands        ops      ops/sec    p50 (ms)    p99 (ms)   p99.9 (ms)`);
+    foreach [string, Operation] [name, operation] in SCENARIOS.entries() {
+        if scenarios.length() > 0 && scenarios.indexOf(name) is () {
+            continue;
+        }
+        ScenarioResult result = check runScenario(name, operation);
+        io:println(string `${pad(name, 15)} ${pad(result.concurrency, 7)} ${pad(result.operations, 10)} ` +
+                string `${pad(result.opsPerSec, 12)} ${pad(result.p50Millis, 11)} ${pad(result.p99Millis, 11)} ` +
+                string `${pad(result.p999Millis, 12)}`);
+        results.push(result);
+    }
+    check io:fileWriteJson(resultsFile, results.toJson());
+}
+
+function runScenario(string name, Operation operation) returns ScenarioResult|error {
+    _ = check runStrands(operation, warmupOperations);
+    decimal startTime = time:monotonicNow();
+    decimal[] latencies = check runStrands(operation, operationsPerStrand);
+    decimal elapsed = time:monotonicNow() - startTime;
+    decimal[] sorted = latencies.sort();
+    return {
+        scenario: name,
+        concurrency,
+        operations: sorted.length(),
+        opsPerSec: (<decimal>sorted.length() / elapsed).round(1),
+        p50Millis: percentileMillis(sorted, 0.5),
+        p99Millis: percentileMillis(sorted, 0.99),
+        p999Millis: percentileMillis(sorted, 0.999)
+    };
+}
+
+# Runs the operation on `concurrency` strands at once and returns the latency of each operation in seconds.
+function runStrands(Operation operation, int operations) returns decimal[]|error {
+    future<decimal[]|error>[] futures = [];
+    foreach int strand in 0 ..< concurrency {
+        futures.push(start runStrand(operation, strand, operations));
+    }
+    decimal[] latencies = [];
+    foreach future<decimal[]|error> f in futures {
+        latencies.push(...check wait f);
+    }
+    return latencies;
+}
+
+isolated function runStrand(Operation operation, int strand, int operations) returns decimal[]|error {
+    decimal[] latencies = [];
+    foreach int iteration in 0 ..< operations {
+        decimal startTime = time:monotonicNow();
+        check operation(strand, iteration);
+        latencies.push(time:monotonicNow() - startTime);
+    }
+    return latencies;
+}
+
+isolated function percentileMillis(decimal[] sorted, decimal percentile) returns decimal {
+    if sorted.length() == 0 {
+        return 0;
+    }
+    int index = int:max(<int>(percentile * <decimal>sorted.length()).ceiling() - 1, 0);
+    return (sorted[index] * 1000).round(3);
+}
+
+isolated function pad(anydata value, int width) returns string {
+    string text = value.toString();
+    return text.padStart(width);
+}
+
+isolated function execWait(int strand, int iteration) returns error? {
+    os:Process process = check os:exec({value: "/bin/echo"});
+    int exitCode = check process.waitForExit();
+    if exitCode != 0 {
+        return error(string `/bin/echo exited with ${exitCode}`);
+    }
+}
+
+isolated function execOutput(int strand, int iteration) returns error? {
+    os:Process process = check os:exec({value: "/bin/echo", arguments: INPUT});
+    byte[] output = check process.output();
+    if output.length() != INPUT_BYTES.length() + 1 {
+        return error(string `unexpected output of /bin/echo: ${output.length()} bytes`);
+    }
+}
+
+isolated function execCat(int strand, int iteration) returns error? {
+    os:Process process = check os:exec({value: "/bin/cat"});
+    check process.writeInput(INPUT_BYTES);
+    check process.closeInput();
+    byte[] output = check process.output();
+    if output.length() != INPUT_BYTES.length() {
+        return error(string `unexpected output of /bin/cat: ${output.length()} bytes`);
+    }
+}
+
+isolated function getEnv(int strand, int iteration) returns error? {
+    if os:getEnv("PATH") == "" {
+        return error("PATH is not set");
+    }
+}
+
+isolated function setListEnv(int strand, int iteration) returns error? {
+    string key = string `OS_THROUGHPUT_${strand}_${iteration % 16}`;
+    check os:setEnv(key, iteration.toString());
+    map<string> envs = os:listEnv();
+    if !envs.hasKey(key) {
+        return error(string `${key} is missing from listEnv`);
+    }
+    check os:unsetEnv(key);
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.benchmarks;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the environment variable lookups done by `os:getEnv`, `os:setEnv` and `os:listEnv`. A strand, which has
+ * not changed the environment, reads the shared snapshot directly, and a strand, which has, reads through its overlay.
+ * The environment handling done when a process is started is measured by {@link SpawnBenchmark} with the same number
+ * of overrides.
+ *
+ * @since 1.11.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvBenchmark {
+
+    private static final BString PATH = StringUtils.fromString("PATH");
+    private static final BString OVERRIDDEN = StringUtils.fromString("OS_BENCHMARK_OVERRIDE_0");
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString OTHER_VALUE = StringUtils.fromString("other value");
+
+    /**
+     * Number of variables set in the overlay of the strand with `os:setEnv` before the lookups.
+     */
+    @Param({"0", "16"})
+    public int overrides;
+
+    private EnvOverlay overlay;
+
+    @Setup
+    public void setup() {
+        overlay = overrides == 0 ? EnvOverlay.EMPTY : new EnvOverlay();
+        for (int i = 0; i < overrides; i++) {
+            overlay.set(StringUtils.fromString("OS_BENCHMARK_OVERRIDE_" + i), VALUE);
+        }
+    }
+
+    @Benchmark
+    public Object getEnv() {
+        return overlay.get(PATH);
+    }
+
+    @Benchmark
+    public Object getOverriddenEnv() {
+        return overlay.get(OVERRIDDEN);
+    }
+
+    @Benchmark
+    public Object listEnv() {
+        return overlay.toReadOnlyMap();
+    }
+
+    /**
+     * An `os:setEnv` call followed by an `os:listEnv` call, which creates the merged map again.
+     */
+    @Benchmark
+    public Object setAndListEnv() {
+        EnvOverlay changed = overrides == 0 ? new EnvOverlay() : overlay;
+        changed.set(OVERRIDDEN, VALUE.equals(changed.get(OVERRIDDEN)) ? OTHER_VALUE : VALUE);
+        return changed.toReadOnlyMap();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the exits of many children are noticed through {@link Process#onExit()}, which `waitForExit`,
+ * `waitAny`, `waitAll` and the admission control rely on. With the given number of children in flight, it reports the
+ * number of JDK process reaper threads and the time from terminating the children until all their exits are noticed.
+ *
+ * @since 1.11.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class ExitNotificationBenchmark {
+
+    private static final String REAPER_THREAD_NAME = "process reaper";
+
+    @Param({"1", "100", "1000"})
+    public int inFlight;
+
+    private final List<Process> children = new ArrayList<>();
+    private long reaperThreads;
+
+    /**
+     * Number of JDK process reaper threads alive while the children are in flight.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class ReaperThreads {
+
+        public long reaperThreads;
+    }
+
+    /**
+     * Starts the children and counts the reaper threads outside the measured region, as listing the threads brings the
+     * JVM to a safepoint.
+     */
+    @Setup(Level.Invocation)
+    public void startChildren() throws IOException {
+        for (int i = 0; i < inFlight; i++) {
+            children.add(new ProcessBuilder("sleep", "60").start());
+        }
+        reaperThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().startsWith(REAPER_THREAD_NAME))
+                .count();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopChildren() throws InterruptedException {
+        for (Process child : children) {
+            child.destroyForcibly().waitFor();
+        }
+        children.clear();
+    }
+
+    @Benchmark
+    public void exitNotification(ReaperThreads counters) {
+        counters.reaperThreads += reaperThreads;
+        CompletableFuture<?>[] exits = new CompletableFuture<?>[children.size()];
+        for (int i = 0; i < exits.length; i++) {
+            exits[i] = children.get(i).onExit();
+            children.get(i).destroyForcibly();
+        }
+        CompletableFuture.allOf(exits).join();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.benchmarks;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.stdlib.os.nativeimpl.Capture;
+import io.ballerina.stdlib.os.nativeimpl.Output;
+import io.ballerina.stdlib.os.nativeimpl.OutputChunk;
+import io.ballerina.stdlib.os.utils.HeadTailBuffer;
+import io.ballerina.stdlib.os.utils.StreamPump;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.stdlib.os.utils.OSConstants.STDOUT;
+
+/**
+ * Measures the cost of capturing the output of a process, which writes the given number of bytes to its standard
+ * output, with each of the strategies used by the `os:Process` methods. Each strategy is driven through the native
+ * entry point, which the extern of the method runs on a yielded strand.
+ *
+ * @since 1.11.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OutputBenchmark {
+
+    private static final String EXECUTABLE = "head";
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"1024", "1048576", "104857600"})
+    public int size;
+
+    private List<String> command;
+
+    @Setup
+    public void setup() {
+        command = List.of("head", "-c", String.valueOf(size), "/dev/zero");
+    }
+
+    /**
+     * Reads the whole output into a Ballerina byte array through {@link Output#readOutput}, as `process.output()`
+     * does.
+     */
+    @Benchmark
+    public BArray output() throws Exception {
+        Process process = new ProcessBuilder(command).start();
+        BArray result = ValueCreator.createArrayValue(Output.readOutput(process, EXECUTABLE, STDOUT, -1));
+        process.waitFor();
+        return result;
+    }
+
+    /**
+     * Drains the standard output and the standard error on pump tasks while waiting for the exit, as
+     * `process.collect()` does.
+     */
+    @Benchmark
+    public byte[] collect() throws Exception {
+        Process process = new ProcessBuilder(command).start();
+        CompletableFuture<byte[]> stdout = StreamPump.drain(process, process.getInputStream(), -1);
+        CompletableFuture<byte[]> stderr = StreamPump.drain(process, process.getErrorStream(), -1);
+        CompletableFuture.allOf(process.onExit(), stdout, stderr).get();
+        return stdout.join();
+    }
+
+    /**
+     * Reads the output in chunks through {@link OutputChunk#read} with a buffer reused across reads, as the stream
+     * returned by `process.outputStream()` does.
+     */
+    @Benchmark
+    public long outputStream() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).start();
+        InputStream in = process.getInputStream();
+        byte[] buffer = new byte[CHUNK_SIZE];
+        long total = 0;
+        byte[] chunk;
+        while ((chunk = OutputChunk.read(in, buffer, CHUNK_SIZE, EXECUTABLE, STDOUT)) != null) {
+            total += ValueCreator.createArrayValue(chunk).size();
+        }
+        process.waitFor();
+        return total;
+    }
+
+    /**
+     * Keeps only the head and the tail of the output through {@link Capture#captureOutput}, as `process.capture()`
+     * does.
+     */
+    @Benchmark
+    public long capture() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).start();
+        HeadTailBuffer buffer = Capture.captureOutput(process.getInputStream(), 4096, 4096, EXECUTABLE, STDOUT);
+        process.waitFor();
+        return buffer.getDroppedBytes();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.benchmarks;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.nativeimpl.Exec;
+import io.ballerina.stdlib.os.utils.AdmissionController;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of starting `/bin/true` and waiting for it to exit, the way `os:exec` followed by
+ * `process.waitForExit()` does. The benchmark drives the same resolution, environment handling, admission and start
+ * path as `os:exec` through the public native entry points, up to the creation of the Ballerina process object.
+ *
+ * @since 1.11.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SpawnBenchmark {
+
+    private static final String EXECUTABLE = "/bin/true";
+    private static final BString VALUE = StringUtils.fromString("value");
+
+    /**
+     * Number of variables set in the overlay of the strand with `os:setEnv` before the processes are started.
+     */
+    @Param({"0", "16"})
+    public int overrides;
+
+    private BMap<BString, Object> command;
+    private EnvOverlay overlay;
+
+    @Setup
+    public void setup() {
+        command = ValueCreator.createMapValue();
+        command.put(StringUtils.fromString("value"), StringUtils.fromString(EXECUTABLE));
+        command.put(StringUtils.fromString("arguments"), ValueCreator.createArrayValue(new BString[0]));
+        overlay = overrides == 0 ? EnvOverlay.EMPTY : new EnvOverlay();
+        for (int i = 0; i < overrides; i++) {
+            overlay.set(StringUtils.fromString("OS_BENCHMARK_OVERRIDE_" + i), VALUE);
+        }
+    }
+
+    /**
+     * Baseline, which starts the process directly without any of the work done by `os:exec`.
+     */
+    @Benchmark
+    public int spawnAndWaitFor() throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(List.of(EXECUTABLE)).start();
+        return process.waitFor();
+    }
+
+    @Benchmark
+    public ProcessBuilder createProcessBuilder() {
+        return Exec.createProcessBuilder(command, null, null, null, null, overlay);
+    }
+
+    @Benchmark
+    public int exec() throws IOException {
+        ProcessBuilder pb = Exec.createProcessBuilder(command, null, null, null, null, overlay);
+        String executable = ProcessMetrics.getExecutableName(pb.command());
+        if (!AdmissionController.tryAcquire(1)) {
+            throw new IllegalStateException("No exec slot is free");
+        }
+        Process process = AdmissionController.start(pb, executable);
+        return process.onExit().join().exitValue();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.HeadTailBuffer;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External function for ballerina.os:Process.capture.
+ *
+ * @since 1.11.0
+ */
+public class Capture {
+
+    private static final String CAPTURED_OUTPUT = "CapturedOutput";
+    private static final String HEAD = "head";
+    private static final String TAIL = "tail";
+    private static final String DROPPED_BYTES = "droppedBytes";
+    private static final int BUFFER_SIZE = 8192;
+
+    private Capture() {
+
+    }
+
+    /**
+     * Drains the output of the process until the end, retaining only the first {@code headLimit} and the last
+     * {@code tailLimit} bytes.
+     */
+    public static Object capture(Environment env, BObject objVal, long fileOutputStream, long headLimit,
+                                 long tailLimit) {
+        InputStream in = OSUtils.getOutputStream(OSUtils.processFromObject(objVal), fileOutputStream);
+        String executable = OSUtils.executableFromObject(objVal);
+        return env.yieldAndRun(() -> {
+            HeadTailBuffer buffer;
+            try {
+                buffer = captureOutput(in, (int) headLimit, (int) tailLimit, executable, fileOutputStream);
+            } catch (IOException e) {
+                return createProcessExecError("Failed to read the output of the process", e);
+            }
+            Map<String, Object> result = new HashMap<>();
+            result.put(HEAD, ValueCreator.createArrayValue(buffer.getHead()));
+            result.put(TAIL, ValueCreator.createArrayValue(buffer.getTail()));
+            result.put(DROPPED_BYTES, buffer.getDroppedBytes());
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), CAPTURED_OUTPUT, result);
+        });
+    }
+
+    /**
+     * Drains an output stream of a process until the end and closes it, blocking until then.
+     *
+     * @param in               the output stream of the process
+     * @param headLimit        number of bytes retained from the start of the output
+     * @param tailLimit        number of bytes retained from the end of the output
+     * @param executable       name of the executable, under which the bytes read are recorded
+     * @param fileOutputStream the output stream to be read
+     * @return the buffer holding the retained bytes
+     */
+    public static HeadTailBuffer captureOutput(InputStream in, int headLimit, int tailLimit, String executable,
+                                               long fileOutputStream) throws IOException {
+        HeadTailBuffer buffer = new HeadTailBuffer(headLimit, tailLimit);
+        byte[] chunk = new byte[BUFFER_SIZE];
+        try (in) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                buffer.write(chunk, 0, read);
+            }
+        }
+        ProcessMetrics.recordOutputBytes(executable, fileOutputStream, buffer.getTotalBytes());
+        return buffer;
+    }
+}
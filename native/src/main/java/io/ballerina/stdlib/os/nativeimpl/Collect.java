@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.OSConstants;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+import io.ballerina.stdlib.os.utils.StreamPump;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External function for ballerina.os:Process.collect.
+ *
+ * @since 1.11.0
+ */
+public class Collect {
+
+    private static final String PROCESS_RESULT = "ProcessResult";
+    private static final String EXIT_CODE = "exitCode";
+    private static final String STDOUT = "stdout";
+    private static final String STDERR = "stderr";
+
+    private Collect() {
+
+    }
+
+    /**
+     * Drains the standard output and the standard error of the process concurrently while waiting for it to exit.
+     *
+     * @param stdoutLimit maximum number of bytes to be retained from the standard output, or {@code null} for all
+     * @param stderrLimit maximum number of bytes to be retained from the standard error, or {@code null} for all
+     * @param timeout     timeout in seconds as a {@link io.ballerina.runtime.api.values.BDecimal}, or {@code null}.
+     *                    If the process does not finish within the timeout, it is terminated
+     */
+    public static Object collect(Environment env, BObject objVal, Object stdoutLimit, Object stderrLimit,
+                                 Object timeout) {
+        Process process = OSUtils.processFromObject(objVal);
+        String executable = OSUtils.executableFromObject(objVal);
+        long timeoutNanos = OSUtils.toTimeoutNanos(timeout);
+        CompletableFuture<byte[]> stdout = StreamPump.drain(process, process.getInputStream(), toLimit(stdoutLimit),
+                bytesRead -> ProcessMetrics.recordOutputBytes(executable, OSConstants.STDOUT, bytesRead));
+        CompletableFuture<byte[]> stderr = StreamPump.drain(process, process.getErrorStream(), toLimit(stderrLimit),
+                bytesRead -> ProcessMetrics.recordOutputBytes(executable, OSConstants.STDERR, bytesRead));
+        return env.yieldAndRun(() -> {
+            try {
+                OSUtils.await(CompletableFuture.allOf(process.onExit(), stdout, stderr), timeoutNanos);
+                return createProcessResult(process.exitValue(), stdout.join(), stderr.join());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to collect the output of the process", e);
+            } catch (ExecutionException e) {
+                return createProcessExecError("Failed to collect the output of the process", OSUtils.getCause(e));
+            } catch (TimeoutException e) {
+                OSUtils.terminate(process);
+                return ErrorGenerator.createTimeoutError("The process did not finish within the timeout");
+            }
+        });
+    }
+
+    static BMap<BString, Object> createProcessResult(long exitCode, byte[] stdout, byte[] stderr) {
+        Map<String, Object> result = new HashMap<>();
+        result.put(EXIT_CODE, exitCode);
+        result.put(STDOUT, ValueCreator.createArrayValue(stdout));
+        result.put(STDERR, ValueCreator.createArrayValue(stderr));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), PROCESS_RESULT, result);
+    }
+
+    private static long toLimit(Object limit) {
+        return limit == null ? -1 : (long) limit;
+    }
+}
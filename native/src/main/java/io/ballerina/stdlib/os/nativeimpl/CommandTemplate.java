@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * External functions for os:CommandTemplate.
+ *
+ * @since 1.11.0
+ */
+public class CommandTemplate {
+
+    private static final String TEMPLATE = "CommandTemplate";
+    private static final String TEMPLATE_STATS = "CommandTemplateStats";
+    private static final String STARTED = "started";
+    private static final String FAILED = "failed";
+
+    private CommandTemplate() {
+
+    }
+
+    /**
+     * Resolves the command and the environment properties of the template once, so that only the placeholder
+     * arguments are bound for each process.
+     */
+    public static void init(BObject templateObj, BMap<BString, Object> command, Object stdin, Object stdout,
+                            Object stderr, BMap<BString, Object> envProperties) {
+        templateObj.addNativeData(TEMPLATE, new Template(new ResolvedCommand(command, stdin, stdout, stderr,
+                envProperties, true)));
+    }
+
+    public static Object exec(Environment env, BObject templateObj, BArray bindings) {
+        Template template = (Template) templateObj.getNativeData(TEMPLATE);
+        int placeholders = template.command.getPlaceholderCount();
+        if (bindings.size() != placeholders) {
+            return ErrorGenerator.createError(String.format(
+                    "The command template has %d placeholders, but %d values were given", placeholders,
+                    bindings.size()));
+        }
+        ProcessBuilder pb = template.command.createProcessBuilder(bindings, OSUtils.getEnvOverlay(env));
+        Object result = Exec.exec(env, pb, template.command.getExecutable());
+        if (result instanceof BError) {
+            template.failed.increment();
+        } else {
+            template.started.increment();
+        }
+        return result;
+    }
+
+    public static BMap<BString, Object> stats(BObject templateObj) {
+        Template template = (Template) templateObj.getNativeData(TEMPLATE);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(STARTED, template.started.sum());
+        stats.put(FAILED, template.failed.sum());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), TEMPLATE_STATS, stats);
+    }
+
+    private static final class Template {
+
+        private final ResolvedCommand command;
+        private final LongAdder started = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        private Template(ResolvedCommand command) {
+            this.command = command;
+        }
+    }
+}
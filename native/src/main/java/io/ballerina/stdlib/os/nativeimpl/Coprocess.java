@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.CoprocessPool;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for ballerina.os:Coprocess.
+ *
+ * @since 1.11.0
+ */
+public class Coprocess {
+
+    private static final String COPROCESS_POOL = "CoprocessPool";
+
+    private Coprocess() {
+
+    }
+
+    public static Object init(Environment env, BObject coprocessObj, BMap<BString, Object> command, BString framing,
+                              long poolSize, long maxResponseSize, Object timeout) {
+        ProcessBuilder pb = Exec.createProcessBuilder(command, null, null, null, null, OSUtils.getEnvOverlay(env));
+        CoprocessPool.Framing poolFraming = CoprocessPool.Framing.valueOf(framing.getValue());
+        long timeoutNanos = OSUtils.toTimeoutNanos(timeout);
+        // The workers wait for free exec slots, so the strand is suspended while the pool is started.
+        return env.yieldAndRun(() -> {
+            try {
+                CoprocessPool pool = new CoprocessPool(pb, poolFraming, (int) poolSize,
+                        (int) Math.min(maxResponseSize, Integer.MAX_VALUE - 8), timeoutNanos);
+                coprocessObj.addNativeData(COPROCESS_POOL, pool);
+            } catch (IOException e) {
+                return createProcessExecError("Failed to start the coprocess", e);
+            }
+            return null;
+        });
+    }
+
+    public static Object call(Environment env, BObject coprocessObj, BArray request) {
+        CoprocessPool pool = getPool(coprocessObj);
+        byte[] requestBytes = request.getBytes();
+        return env.yieldAndRun(() -> {
+            try {
+                return ValueCreator.createArrayValue(pool.call(requestBytes));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to call the coprocess", e);
+            } catch (IOException e) {
+                return createProcessExecError("Failed to call the coprocess", e);
+            } catch (TimeoutException e) {
+                return ErrorGenerator.createTimeoutError(e.getMessage());
+            }
+        });
+    }
+
+    public static Object checkHealth(Environment env, BObject coprocessObj) {
+        CoprocessPool pool = getPool(coprocessObj);
+        // A worker, which is restarted, waits for a free exec slot.
+        return env.yieldAndRun(() -> (long) pool.checkHealth());
+    }
+
+    public static void close(BObject coprocessObj) {
+        getPool(coprocessObj).close();
+    }
+
+    private static CoprocessPool getPool(BObject coprocessObj) {
+        return (CoprocessPool) coprocessObj.getNativeData(COPROCESS_POOL);
+    }
+}
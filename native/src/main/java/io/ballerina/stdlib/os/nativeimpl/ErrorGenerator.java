@@ -22,6 +22,9 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 
+import static io.ballerina.stdlib.os.nativeimpl.Errors.ProcessExecError;
+import static io.ballerina.stdlib.os.nativeimpl.Errors.TimeoutError;
+
 /**
  * This class will hold the native an API to generate errors of the os library.
  *
@@ -33,9 +36,26 @@ public class ErrorGenerator {
 
     private ErrorGenerator() {}
 
+    public static BError createError(String errorMsg) {
+
+        return ErrorCreator.createError(ModuleUtils.getModule(), ERROR, StringUtils.fromString(errorMsg), null, null);
+    }
+
     public static BError createError(String errorMsg, Exception e) {
 
         return ErrorCreator.createError(ModuleUtils.getModule(), ERROR,
                 StringUtils.fromString(errorMsg + ": " + e.getMessage()), null, null);
     }
+
+    public static BError createProcessExecError(String errorMsg, Throwable e) {
+
+        return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
+                StringUtils.fromString(errorMsg + ": " + e.getMessage()), null, null);
+    }
+
+    public static BError createTimeoutError(String errorMsg) {
+
+        return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(TimeoutError),
+                StringUtils.fromString(errorMsg), null, null);
+    }
 }
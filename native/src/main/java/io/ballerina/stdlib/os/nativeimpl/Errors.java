@@ -24,5 +24,6 @@ package io.ballerina.stdlib.os.nativeimpl;
  * @since 1.4.0
  */
 public enum Errors {
-    ProcessExecError
+    ProcessExecError,
+    TimeoutError
 }
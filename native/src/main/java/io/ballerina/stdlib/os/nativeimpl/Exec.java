@@ -18,17 +18,17 @@
 
 package io.ballerina.stdlib.os.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.AdmissionController;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
 import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
 
 import static io.ballerina.stdlib.os.nativeimpl.Errors.ProcessExecError;
 
@@ -39,30 +39,57 @@ import static io.ballerina.stdlib.os.nativeimpl.Errors.ProcessExecError;
  */
 public class Exec {
 
-    static final String VALUE = "value";
-    static final String ARGUMENTS = "arguments";
-
     private Exec() {
 
     }
     
-    public static Object exec(BMap<BString, Object> command, BMap<BString, Object> env) {
-        List<String> commandList = new ArrayList<>();
-        commandList.add(command.getStringValue(StringUtils.fromString(VALUE)).getValue());
-        String[] arguments = command.getArrayValue(StringUtils.fromString(ARGUMENTS)).getStringArray();
+    public static Object exec(Environment env, BMap<BString, Object> command, Object stdin, Object stdout,
+                              Object stderr, BMap<BString, Object> envProperties) {
+        ProcessBuilder pb = createProcessBuilder(command, stdin, stdout, stderr, envProperties,
+                OSUtils.getEnvOverlay(env));
+        return exec(env, pb, ProcessMetrics.getExecutableName(pb.command()));
+    }
 
-        Collections.addAll(commandList, arguments);
-        ProcessBuilder pb = new ProcessBuilder(commandList);
-        if (env != null) {
-            Map<String, String> pbEnv = pb.environment();
-            env.entrySet().forEach(entry -> pbEnv.put(entry.getKey().getValue(), entry.getValue().toString()));
+    /**
+     * Starts a process once an exec slot is free.
+     */
+    static Object exec(Environment env, ProcessBuilder pb, String executable) {
+        if (AdmissionController.tryAcquire(1)) {
+            return start(pb, executable);
         }
+        // No exec slot is free, so the strand is suspended while the request waits in the queue.
+        return env.yieldAndRun(() -> {
+            try {
+                AdmissionController.acquire(1);
+            } catch (IOException e) {
+                return createError(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createError(e);
+            }
+            return start(pb, executable);
+        });
+    }
+
+    private static Object start(ProcessBuilder pb, String executable) {
         try {
-            return OSUtils.getProcessObject(pb.start());
-        } catch (IOException e) {
-            return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
-                    StringUtils.fromString("Failed to retrieve the process object" + ": " + e.getMessage()),
-                    null, null);
+            return OSUtils.getProcessObject(AdmissionController.start(pb, executable), executable);
+        } catch (IOException | RuntimeException e) {
+            return createError(e);
         }
     }
+
+    private static Object createError(Exception e) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
+                StringUtils.fromString("Failed to retrieve the process object" + ": " + e.getMessage()), null, null);
+    }
+
+    /**
+     * Creates the process builder for a command the way `os:exec` does, resolving the executable and applying the
+     * redirects, the given environment properties and the environment overlay of the strand.
+     */
+    public static ProcessBuilder createProcessBuilder(BMap<BString, Object> command, Object stdin, Object stdout,
+                                                      Object stderr, BMap<BString, Object> env, EnvOverlay overlay) {
+        return new ResolvedCommand(command, stdin, stdout, stderr, env, false).createProcessBuilder(null, overlay);
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.AdmissionController;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * External functions for the admission control of os:exec.
+ *
+ * @since 1.11.0
+ */
+public class ExecAdmission {
+
+    private static final String EXEC_QUEUE_STATS = "ExecQueueStats";
+    private static final String RUNNING_PROCESSES = "runningProcesses";
+    private static final String QUEUED_EXECS = "queuedExecs";
+    private static final String TOTAL_QUEUED_EXECS = "totalQueuedExecs";
+    private static final String TOTAL_WAIT_TIME = "totalWaitTime";
+    private static final String MAX_WAIT_TIME = "maxWaitTime";
+
+    private ExecAdmission() {
+
+    }
+
+    public static void configure(long maxConcurrentProcesses, long maxQueuedExecs, BDecimal execQueueTimeout) {
+        AdmissionController.configure(maxConcurrentProcesses, maxQueuedExecs, execQueueTimeout.floatValue());
+    }
+
+    public static BMap<BString, Object> getExecQueueStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(RUNNING_PROCESSES, (long) AdmissionController.getRunning());
+        stats.put(QUEUED_EXECS, (long) AdmissionController.getQueued());
+        stats.put(TOTAL_QUEUED_EXECS, AdmissionController.getTotalQueued());
+        stats.put(TOTAL_WAIT_TIME, toSeconds(AdmissionController.getTotalWaitNanos()));
+        stats.put(MAX_WAIT_TIME, toSeconds(AdmissionController.getMaxWaitNanos()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), EXEC_QUEUE_STATS, stats);
+    }
+
+    private static BDecimal toSeconds(long nanos) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(nanos, 9));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
+import io.ballerina.stdlib.os.utils.ExecBatch;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for os:execAll and os:execAllAsStream.
+ *
+ * @since 1.11.0
+ */
+public class ExecAll {
+
+    private static final String EXEC_BATCH = "ExecBatch";
+    private static final String COMPLETED_PROCESS = "CompletedProcess";
+    private static final String INDEX = "index";
+    private static final String RESULT = "result";
+
+    private ExecAll() {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void start(Environment env, BObject iteratorObj, BArray commands, long maxParallel,
+                             Object outputLimit, Object stdin, Object stdout, Object stderr,
+                             BMap<BString, Object> envProperties) {
+        List<ProcessBuilder> builders = new ArrayList<>(commands.size());
+        EnvOverlay overlay = OSUtils.getEnvOverlay(env);
+        for (int i = 0; i < commands.size(); i++) {
+            builders.add(Exec.createProcessBuilder((BMap<BString, Object>) commands.get(i), stdin, stdout, stderr,
+                    envProperties, overlay));
+        }
+        ExecBatch batch = new ExecBatch(builders, (int) Math.min(maxParallel, Integer.MAX_VALUE),
+                outputLimit == null ? -1 : (long) outputLimit);
+        iteratorObj.addNativeData(EXEC_BATCH, batch);
+        batch.start();
+    }
+
+    /**
+     * Returns the next process of the batch to finish.
+     *
+     * @return the index and the result of the process, {@code null} if all the processes have been returned, or an
+     * error
+     */
+    public static Object next(Environment env, BObject iteratorObj) {
+        ExecBatch batch = (ExecBatch) iteratorObj.getNativeData(EXEC_BATCH);
+        return env.yieldAndRun(() -> {
+            ExecBatch.Completion completion;
+            try {
+                completion = batch.next();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to wait for the processes to exit", e);
+            }
+            if (completion == null) {
+                return null;
+            }
+            Map<String, Object> completedProcess = new HashMap<>();
+            completedProcess.put(INDEX, (long) completion.index());
+            completedProcess.put(RESULT, createResult(completion));
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), COMPLETED_PROCESS, completedProcess);
+        });
+    }
+
+    public static void close(BObject iteratorObj) {
+        ((ExecBatch) iteratorObj.getNativeData(EXEC_BATCH)).cancel();
+    }
+
+    private static Object createResult(ExecBatch.Completion completion) {
+        if (completion.error() == null) {
+            return Collect.createProcessResult(completion.exitCode(), completion.stdout(), completion.stderr());
+        }
+        return createProcessExecError("Failed to execute the command", OSUtils.getCause(completion.error()));
+    }
+}
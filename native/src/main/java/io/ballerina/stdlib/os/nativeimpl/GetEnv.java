@@ -19,10 +19,9 @@ package io.ballerina.stdlib.os.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
-import static io.ballerina.stdlib.os.utils.OSUtils.getEnvVariablesMap;
+import static io.ballerina.stdlib.os.utils.OSUtils.getEnvOverlay;
 
 /**
  * Extern function of ballerina.os:getEnv.
@@ -36,11 +35,10 @@ public class GetEnv {
     }
 
     public static BString getEnv(Environment env, BString key) {
-        BMap<BString, Object> envMap = getEnvVariablesMap(env);
-        Object value = envMap.get(key);
+        BString value = getEnvOverlay(env).get(key);
         if (value == null) {
             return StringUtils.fromString("");
         }
-        return (BString) value;
+        return value;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for writing to the standard input of ballerina.os:Process.
+ *
+ * @since 1.11.0
+ */
+public class Input {
+
+    private Input() {
+
+    }
+
+    /**
+     * Writes the given bytes to the standard input of the process. The standard input of the process is buffered, and
+     * the strand yields while the write is blocked on a full pipe.
+     *
+     * @param flush whether the buffered bytes should be flushed to the process after the write
+     */
+    public static Object write(Environment env, BObject objVal, BArray data, boolean flush) {
+        OutputStream out = OSUtils.processFromObject(objVal).getOutputStream();
+        byte[] bytes = data.getBytes();
+        return env.yieldAndRun(() -> {
+            try {
+                out.write(bytes, 0, data.size());
+                if (flush) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                return createProcessExecError("Failed to write to the input stream of the process", e);
+            }
+            return null;
+        });
+    }
+
+    public static Object flush(Environment env, BObject objVal) {
+        OutputStream out = OSUtils.processFromObject(objVal).getOutputStream();
+        return env.yieldAndRun(() -> {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                return createProcessExecError("Failed to write to the input stream of the process", e);
+            }
+            return null;
+        });
+    }
+
+    public static Object close(Environment env, BObject objVal) {
+        OutputStream out = OSUtils.processFromObject(objVal).getOutputStream();
+        return env.yieldAndRun(() -> {
+            try {
+                out.close();
+            } catch (IOException e) {
+                return createProcessExecError("Failed to close the input stream of the process", e);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for the line stream returned from ballerina.os:Process.lines.
+ *
+ * @since 1.11.0
+ */
+public class Lines {
+
+    private static final String LINE_READER = "LineReader";
+
+    private Lines() {
+
+    }
+
+    /**
+     * Reads the next line of the process output. The output is decoded incrementally as UTF-8 by a decoder owned by
+     * the stream, so a line is available as soon as the process has written it.
+     *
+     * @return the next line without the line terminator, {@code null} once the end of the output is reached, or an
+     * error
+     */
+    public static Object readLine(Environment env, BObject streamObj, BObject processObj, long fileOutputStream) {
+        BufferedReader reader = getReader(streamObj, processObj, fileOutputStream);
+        return env.yieldAndRun(() -> {
+            try {
+                String line = reader.readLine();
+                if (line == null) {
+                    reader.close();
+                    return null;
+                }
+                return StringUtils.fromString(line);
+            } catch (IOException e) {
+                return createProcessExecError("Failed to read the output of the process", e);
+            }
+        });
+    }
+
+    private static BufferedReader getReader(BObject streamObj, BObject processObj, long fileOutputStream) {
+        Object reader = streamObj.getNativeData(LINE_READER);
+        if (reader == null) {
+            Process process = OSUtils.processFromObject(processObj);
+            reader = new BufferedReader(new InputStreamReader(OSUtils.getOutputStream(process, fileOutputStream),
+                    StandardCharsets.UTF_8.newDecoder()
+                            .onMalformedInput(CodingErrorAction.REPLACE)
+                            .onUnmappableCharacter(CodingErrorAction.REPLACE)));
+            streamObj.addNativeData(LINE_READER, reader);
+        }
+        return (BufferedReader) reader;
+    }
+}
@@ -21,7 +21,7 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
-import static io.ballerina.stdlib.os.utils.OSUtils.getEnvVariablesMap;
+import static io.ballerina.stdlib.os.utils.OSUtils.getEnvOverlay;
 
 /**
  * Extern function of ballerina.os:listEnv.
@@ -35,6 +35,6 @@ public class ListEnv {
     }
 
     public static BMap<BString, Object> listEnv(Environment env) {
-        return getEnvVariablesMap(env);
+        return getEnvOverlay(env).toReadOnlyMap();
     }
 }
@@ -18,20 +18,17 @@
 
 package io.ballerina.stdlib.os.nativeimpl;
 
-import io.ballerina.runtime.api.creators.ErrorCreator;
-import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.ArrayType;
-import io.ballerina.runtime.api.types.PredefinedTypes;
-import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+import io.ballerina.stdlib.os.utils.StreamPump;
 
-import java.io.IOException;
 import java.io.InputStream;
-
-import static io.ballerina.stdlib.os.nativeimpl.Errors.ProcessExecError;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 /**
  * External function for ballerina.os:Process.output.
@@ -44,36 +41,45 @@ public class Output {
 
     }
 
-    private static final ArrayType BYTE_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_BYTE);
-
-    public static Object output(BObject objVal, long fileOutputStream) {
-        BArray byteDataArray = ValueCreator.createArrayValue(BYTE_ARRAY_TYPE);
-        byte[] result;
+    /**
+     * Reads the output on a pump task and suspends the strand until the pump has read the whole output. If the
+     * timeout expires first, the process is terminated and its streams are closed, which also ends the pump task.
+     */
+    public static Object output(Environment env, BObject objVal, long fileOutputStream, Object timeout) {
         Process process = OSUtils.processFromObject(objVal);
-        InputStream in;
-        if (fileOutputStream == 1) {
-            in = process.getInputStream();
-        } else {
-            in = process.getErrorStream();
-        }
-        try {
-            result = in.readAllBytes();
-        } catch (IOException e) {
-            return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
-                    StringUtils.fromString("Failed to read the output of the process" + ": " + e.getMessage()),
-                    null, null);
-        } finally {
+        String executable = OSUtils.executableFromObject(objVal);
+        long timeoutNanos = OSUtils.toTimeoutNanos(timeout);
+        return env.yieldAndRun(() -> {
             try {
-                in.close();
-            } catch (IOException e) {
-                return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
-                        StringUtils.fromString("Failed to close the output stream of the process" + ": " +
-                                e.getMessage()), null, null);
+                return ValueCreator.createArrayValue(readOutput(process, executable, fileOutputStream, timeoutNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorGenerator.createProcessExecError("Failed to read the output of the process", e);
+            } catch (ExecutionException e) {
+                return ErrorGenerator.createProcessExecError("Failed to read the output of the process",
+                        OSUtils.getCause(e));
+            } catch (TimeoutException e) {
+                OSUtils.terminate(process);
+                return ErrorGenerator.createTimeoutError("The output of the process did not end within the timeout");
             }
-        }
-        for (int i = 0; i < result.length; i++) {
-            byteDataArray.add(i, result[i]);
-        }
-        return byteDataArray;
+        });
+    }
+
+    /**
+     * Reads the whole output of a process on a pump task, blocking until the pump has read it.
+     *
+     * @param process          process, of which the output is read
+     * @param executable       name of the executable, under which the bytes read are recorded
+     * @param fileOutputStream the output stream to be read
+     * @param timeoutNanos     timeout in nanoseconds, or a negative value to wait without a timeout
+     * @return the output of the process
+     */
+    public static byte[] readOutput(Process process, String executable, long fileOutputStream, long timeoutNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        InputStream in = OSUtils.getOutputStream(process, fileOutputStream);
+        CompletableFuture<byte[]> output = StreamPump.drain(process, in, -1);
+        byte[] result = OSUtils.await(output, timeoutNanos);
+        ProcessMetrics.recordOutputBytes(executable, fileOutputStream, result.length);
+        return result;
     }
 }
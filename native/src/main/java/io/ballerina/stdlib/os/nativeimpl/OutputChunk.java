@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for the chunked output stream returned from ballerina.os:Process.outputStream.
+ *
+ * @since 1.11.0
+ */
+public class OutputChunk {
+
+    private static final String CHUNK_BUFFER = "ChunkBuffer";
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    private OutputChunk() {
+
+    }
+
+    /**
+     * Reads the next chunk of the process output. The chunk is filled in bulk into a buffer that is owned by the
+     * stream and reused across reads, so the memory used by the stream does not grow with the size of the output.
+     * A chunk larger than {@link #MAX_BUFFER_SIZE} is not buffered, but read into an array that grows with the bytes
+     * actually read, so a large chunk size does not allocate memory up front.
+     *
+     * @return the next chunk, {@code null} once the end of the output is reached, or an error
+     */
+    public static Object readChunk(Environment env, BObject streamObj, BObject processObj, long fileOutputStream,
+                                   long chunkSize) {
+        InputStream in = OSUtils.getOutputStream(OSUtils.processFromObject(processObj), fileOutputStream);
+        String executable = OSUtils.executableFromObject(processObj);
+        byte[] buffer = chunkSize > MAX_BUFFER_SIZE ? null : getBuffer(streamObj, chunkSize);
+        return env.yieldAndRun(() -> {
+            try {
+                byte[] chunk = read(in, buffer, chunkSize, executable, fileOutputStream);
+                return chunk == null ? null : ValueCreator.createArrayValue(chunk);
+            } catch (IOException e) {
+                return createProcessExecError("Failed to read the output of the process", e);
+            }
+        });
+    }
+
+    /**
+     * Reads the next chunk of the process output, blocking until the chunk is full or the output ends.
+     *
+     * @param in               the output stream of the process
+     * @param buffer           buffer of the chunk size reused across reads, or {@code null} for a chunk larger than
+     *                         {@link #MAX_BUFFER_SIZE}
+     * @param chunkSize        maximum number of bytes in the chunk
+     * @param executable       name of the executable, under which the bytes read are recorded
+     * @param fileOutputStream the output stream to be read
+     * @return the next chunk, or {@code null} once the end of the output is reached, after which the stream is closed
+     */
+    public static byte[] read(InputStream in, byte[] buffer, long chunkSize, String executable,
+                              long fileOutputStream) throws IOException {
+        byte[] chunk;
+        if (buffer == null) {
+            chunk = in.readNBytes((int) Math.min(chunkSize, Integer.MAX_VALUE - 8));
+        } else {
+            chunk = Arrays.copyOf(buffer, in.readNBytes(buffer, 0, buffer.length));
+        }
+        if (chunk.length == 0) {
+            in.close();
+            return null;
+        }
+        ProcessMetrics.recordOutputBytes(executable, fileOutputStream, chunk.length);
+        return chunk;
+    }
+
+    public static Object close(BObject processObj, long fileOutputStream) {
+        InputStream in = OSUtils.getOutputStream(OSUtils.processFromObject(processObj), fileOutputStream);
+        try {
+            in.close();
+        } catch (IOException e) {
+            return createProcessExecError("Failed to close the output stream of the process", e);
+        }
+        return null;
+    }
+
+    private static byte[] getBuffer(BObject streamObj, long chunkSize) {
+        Object buffer = streamObj.getNativeData(CHUNK_BUFFER);
+        if (buffer == null) {
+            buffer = new byte[(int) chunkSize];
+            streamObj.addNativeData(CHUNK_BUFFER, buffer);
+        }
+        return (byte[]) buffer;
+    }
+}
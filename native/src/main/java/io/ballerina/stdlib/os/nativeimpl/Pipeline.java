@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.AdmissionController;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * Extern function os:pipeline.
+ *
+ * @since 1.11.0
+ */
+public class Pipeline {
+
+    private Pipeline() {
+
+    }
+
+    /**
+     * Starts all the stages of the pipeline together with {@link ProcessBuilder#startPipeline(List)}. The standard
+     * output of each stage is connected to the standard input of the next stage by the operating system, so the data
+     * passed between the stages is never read into the JVM.
+     */
+    @SuppressWarnings("unchecked")
+    public static Object pipeline(Environment env, BArray stages, Object stdin, Object stdout, Object stderr,
+                                  BMap<BString, Object> envProperties) {
+        List<ProcessBuilder> builders = new ArrayList<>(stages.size());
+        EnvOverlay overlay = OSUtils.getEnvOverlay(env);
+        for (int i = 0; i < stages.size(); i++) {
+            ProcessBuilder pb = Exec.createProcessBuilder((BMap<BString, Object>) stages.get(i), stdin, stdout,
+                    stderr, envProperties, overlay);
+            // The input redirect applies to the first stage and the output redirect to the last stage only.
+            if (i > 0) {
+                pb.redirectInput(ProcessBuilder.Redirect.PIPE);
+            }
+            if (i < stages.size() - 1) {
+                pb.redirectOutput(ProcessBuilder.Redirect.PIPE);
+            }
+            builders.add(pb);
+        }
+        if (AdmissionController.exceedsLimit(builders.size())) {
+            return createProcessExecError("Failed to start the pipeline", new IOException(String.format(
+                    "The pipeline has %d stages, but at most %d processes can run at a time", builders.size(),
+                    AdmissionController.getMaxRunning())));
+        }
+        if (AdmissionController.tryAcquire(builders.size())) {
+            return start(builders);
+        }
+        return env.yieldAndRun(() -> {
+            try {
+                AdmissionController.acquire(builders.size());
+            } catch (IOException e) {
+                return createProcessExecError("Failed to start the pipeline", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to start the pipeline", e);
+            }
+            return start(builders);
+        });
+    }
+
+    private static Object start(List<ProcessBuilder> builders) {
+        List<Process> processes;
+        long startNanos = System.nanoTime();
+        try {
+            processes = ProcessBuilder.startPipeline(builders);
+        } catch (IOException | RuntimeException e) {
+            AdmissionController.release(builders.size());
+            return createProcessExecError("Failed to start the pipeline", e);
+        }
+        BObject[] processObjects = new BObject[processes.size()];
+        for (int i = 0; i < processObjects.length; i++) {
+            String executable = ProcessMetrics.getExecutableName(builders.get(i).command());
+            Process process = ProcessMetrics.recordSpawn(executable, startNanos, processes.get(i));
+            processObjects[i] = OSUtils.getProcessObject(AdmissionController.register(process), executable);
+        }
+        return ValueCreator.createArrayValue(processObjects,
+                TypeCreator.createArrayType(processObjects[0].getType()));
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.RemoteMethodType;
+import io.ballerina.runtime.api.types.ServiceType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessEventPump;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * External functions for os:ProcessListener.
+ *
+ * @since 1.11.0
+ */
+public class ProcessListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessListener.class);
+
+    private static final String SERVICE = "ProcessService";
+    private static final String EVENT_PUMP = "ProcessEventPump";
+    private static final String ON_STDOUT = "onStdout";
+    private static final String ON_STDERR = "onStderr";
+    private static final String ON_EXIT = "onExit";
+
+    private ProcessListener() {
+
+    }
+
+    /**
+     * Creates the event pump of the listener. The pump is kept for the lifetime of the listener, so that a service
+     * attached after a detach continues to read the streams from where the previous one stopped.
+     */
+    public static void init(BObject listenerObj, BObject processObj, long maxBatchSize) {
+        listenerObj.addNativeData(EVENT_PUMP, new ProcessEventPump(OSUtils.processFromObject(processObj),
+                (int) Math.min(maxBatchSize, Integer.MAX_VALUE)));
+    }
+
+    public static Object attach(BObject listenerObj, BObject service) {
+        if (listenerObj.getNativeData(SERVICE) != null) {
+            return ErrorGenerator.createError("Failed to attach the service",
+                    new IllegalStateException("A service is already attached to the listener"));
+        }
+        listenerObj.addNativeData(SERVICE, service);
+        return null;
+    }
+
+    public static Object detach(BObject listenerObj, BObject service) {
+        if (listenerObj.getNativeData(SERVICE) != service) {
+            return ErrorGenerator.createError("Failed to detach the service",
+                    new IllegalStateException("The service is not attached to the listener"));
+        }
+        // The listener can be started again once another service is attached.
+        immediateStop(listenerObj);
+        listenerObj.addNativeData(SERVICE, null);
+        return null;
+    }
+
+    /**
+     * Starts pushing the events of the process to the attached service.
+     */
+    public static Object start(Environment env, BObject listenerObj) {
+        BObject service = (BObject) listenerObj.getNativeData(SERVICE);
+        if (service == null) {
+            return ErrorGenerator.createError("Failed to start the listener",
+                    new IllegalStateException("No service is attached to the listener"));
+        }
+        ProcessEventPump pump = getPump(listenerObj);
+        if (pump.isDelivering()) {
+            return ErrorGenerator.createError("Failed to start the listener",
+                    new IllegalStateException("The listener has already been started"));
+        }
+        pump.start(new ServiceSink(env.getRuntime(), service));
+        return null;
+    }
+
+    /**
+     * Stops pushing events to the service once the events read so far have been delivered, suspending the strand
+     * until then.
+     */
+    public static Object gracefulStop(Environment env, BObject listenerObj) {
+        ProcessEventPump pump = getPump(listenerObj);
+        return env.yieldAndRun(() -> {
+            try {
+                pump.stopGracefully();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorGenerator.createError("Failed to stop the listener", e);
+            }
+            return null;
+        });
+    }
+
+    public static void immediateStop(BObject listenerObj) {
+        getPump(listenerObj).stop();
+    }
+
+    private static ProcessEventPump getPump(BObject listenerObj) {
+        return (ProcessEventPump) listenerObj.getNativeData(EVENT_PUMP);
+    }
+
+    /**
+     * Delivers the events of a process to the remote methods of a service. The events, for which the service has no
+     * remote method, are dropped.
+     */
+    private static final class ServiceSink implements ProcessEventPump.Sink {
+
+        private final Runtime runtime;
+        private final BObject service;
+        private final ServiceType serviceType;
+        private final Set<String> remoteMethods = new HashSet<>();
+
+        private ServiceSink(Runtime runtime, BObject service) {
+            this.runtime = runtime;
+            this.service = service;
+            this.serviceType = (ServiceType) TypeUtils.getReferredType(TypeUtils.getType(service));
+            for (RemoteMethodType method : serviceType.getRemoteMethods()) {
+                remoteMethods.add(method.getName());
+            }
+        }
+
+        @Override
+        public void onStdout(byte[] chunk) {
+            call(ON_STDOUT, ValueCreator.createArrayValue(chunk));
+        }
+
+        @Override
+        public void onStderr(byte[] chunk) {
+            call(ON_STDERR, ValueCreator.createArrayValue(chunk));
+        }
+
+        @Override
+        public void onExit(int exitCode) {
+            call(ON_EXIT, (long) exitCode);
+        }
+
+        private void call(String method, Object arg) {
+            if (!remoteMethods.contains(method)) {
+                return;
+            }
+            boolean isConcurrentSafe = serviceType.isIsolated() && serviceType.isIsolated(method);
+            try {
+                Object result = runtime.callMethod(service, method, new StrandMetadata(isConcurrentSafe, null), arg);
+                if (result instanceof BError error) {
+                    LOG.error("The {} method of the process service returned an error: {}", method,
+                            error.getPrintableStackTrace());
+                }
+            } catch (BError e) {
+                LOG.error("The {} method of the process service failed: {}", method, e.getPrintableStackTrace());
+            }
+        }
+    }
+}
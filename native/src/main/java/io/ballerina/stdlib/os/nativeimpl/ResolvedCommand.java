@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.EnvOverlay;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An `os:Command` together with its environment properties, resolved into the form needed to start a process. A
+ * resolved command can be used to start any number of processes, and the arguments marked as placeholders are bound
+ * to new values for each of them.
+ *
+ * @since 1.11.0
+ */
+final class ResolvedCommand {
+
+    static final String PLACEHOLDER = "{}";
+    static final String ESCAPED_PLACEHOLDER = "{{}}";
+    private static final BString VALUE = StringUtils.fromString("value");
+    private static final BString ARGUMENTS = StringUtils.fromString("arguments");
+    private static final BString PATH = StringUtils.fromString("path");
+    private static final BString APPEND = StringUtils.fromString("append");
+    private static final String CLEAR_ENV = "clearEnv";
+    private static final String INHERIT = "INHERIT";
+    private static final String DISCARD = "DISCARD";
+    private static final File NULL_FILE = new File(System.getProperty("os.name").toLowerCase(Locale.ENGLISH)
+            .startsWith("windows") ? "NUL" : "/dev/null");
+    private static final int[] NO_PLACEHOLDERS = new int[0];
+
+    private final String[] command;
+    private final int[] placeholders;
+    private final String executable;
+    private final Map<String, String> environment = new LinkedHashMap<>();
+    private final ProcessBuilder.Redirect stdin;
+    private final ProcessBuilder.Redirect stdout;
+    private final ProcessBuilder.Redirect stderr;
+    private boolean clearEnv = false;
+
+    /**
+     * Resolves a command.
+     *
+     * @param command          the `os:Command` record
+     * @param stdin            the `os:Redirect` of the standard input, or {@code null} for a pipe
+     * @param stdout           the `os:Redirect` of the standard output, or {@code null} for a pipe
+     * @param stderr           the `os:Redirect` of the standard error, or {@code null} for a pipe
+     * @param envProperties    the `os:EnvProperties` record, or {@code null}
+     * @param withPlaceholders whether the arguments equal to {@value #PLACEHOLDER} are bound for each process. If so,
+     *                         the arguments equal to {@value #ESCAPED_PLACEHOLDER} are passed as a literal
+     *                         {@value #PLACEHOLDER}
+     */
+    ResolvedCommand(BMap<BString, Object> command, Object stdin, Object stdout, Object stderr,
+                    BMap<BString, Object> envProperties, boolean withPlaceholders) {
+        String[] arguments = command.getArrayValue(ARGUMENTS).getStringArray();
+        this.command = new String[arguments.length + 1];
+        this.command[0] = command.getStringValue(VALUE).getValue();
+        System.arraycopy(arguments, 0, this.command, 1, arguments.length);
+        this.executable = ProcessMetrics.getExecutableName(Arrays.asList(this.command));
+        if (withPlaceholders) {
+            int[] indexes = new int[arguments.length];
+            int count = 0;
+            for (int i = 1; i < this.command.length; i++) {
+                if (PLACEHOLDER.equals(this.command[i])) {
+                    indexes[count++] = i;
+                } else if (ESCAPED_PLACEHOLDER.equals(this.command[i])) {
+                    this.command[i] = PLACEHOLDER;
+                }
+            }
+            this.placeholders = Arrays.copyOf(indexes, count);
+        } else {
+            this.placeholders = NO_PLACEHOLDERS;
+        }
+        this.stdin = getRedirect(stdin, true);
+        this.stdout = getRedirect(stdout, false);
+        this.stderr = getRedirect(stderr, false);
+        if (envProperties == null) {
+            return;
+        }
+        for (Map.Entry<BString, Object> entry : envProperties.entrySet()) {
+            String key = entry.getKey().getValue();
+            if (CLEAR_ENV.equals(key)) {
+                clearEnv = (Boolean) entry.getValue();
+            } else {
+                environment.put(key, entry.getValue().toString());
+            }
+        }
+    }
+
+    int getPlaceholderCount() {
+        return placeholders.length;
+    }
+
+    String getExecutable() {
+        return executable;
+    }
+
+    /**
+     * Creates the builder of a process. The process inherits the environment of the current strand, including the
+     * changes made by `os:setEnv`, unless `clearEnv` is set, and the environment properties are added on top of it.
+     * The environment of the JVM is only left uncopied when there are neither strand changes nor environment
+     * properties, as described in {@link EnvOverlay#applyTo(ProcessBuilder)}.
+     *
+     * @param bindings values of the placeholder arguments, or {@code null} if the command has no placeholders
+     * @param overlay  environment of the current strand
+     * @return the builder of the process
+     */
+    ProcessBuilder createProcessBuilder(BArray bindings, EnvOverlay overlay) {
+        List<String> commandList;
+        if (placeholders.length == 0) {
+            commandList = Arrays.asList(command);
+        } else {
+            String[] bound = command.clone();
+            for (int i = 0; i < placeholders.length; i++) {
+                bound[placeholders[i]] = bindings.getBString(i).getValue();
+            }
+            commandList = Arrays.asList(bound);
+        }
+        ProcessBuilder pb = new ProcessBuilder(new ArrayList<>(commandList));
+        if (clearEnv) {
+            pb.environment().clear();
+        } else {
+            overlay.applyTo(pb);
+        }
+        if (!environment.isEmpty()) {
+            pb.environment().putAll(environment);
+        }
+        return pb.redirectInput(stdin).redirectOutput(stdout).redirectError(stderr);
+    }
+
+    /**
+     * Maps an `os:Redirect` value to a {@link ProcessBuilder.Redirect}, so that the operating system reads or writes
+     * the stream directly instead of a pipe being created for it.
+     */
+    @SuppressWarnings("unchecked")
+    private static ProcessBuilder.Redirect getRedirect(Object redirect, boolean input) {
+        if (redirect == null) {
+            return ProcessBuilder.Redirect.PIPE;
+        }
+        if (redirect instanceof BMap) {
+            BMap<BString, Object> fileRedirect = (BMap<BString, Object>) redirect;
+            File file = new File(fileRedirect.getStringValue(PATH).getValue());
+            if (input) {
+                return ProcessBuilder.Redirect.from(file);
+            }
+            if (fileRedirect.getBooleanValue(APPEND)) {
+                return ProcessBuilder.Redirect.appendTo(file);
+            }
+            return ProcessBuilder.Redirect.to(file);
+        }
+        return switch (redirect.toString()) {
+            case INHERIT -> ProcessBuilder.Redirect.INHERIT;
+            case DISCARD -> input ? ProcessBuilder.Redirect.from(NULL_FILE) : ProcessBuilder.Redirect.DISCARD;
+            default -> ProcessBuilder.Redirect.PIPE;
+        };
+    }
+}
@@ -18,10 +18,9 @@
 package io.ballerina.stdlib.os.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 
-import static io.ballerina.stdlib.os.utils.OSUtils.getEnvVariablesMap;
+import static io.ballerina.stdlib.os.utils.OSUtils.getMutableEnvOverlay;
 
 /**
  * Extern function of ballerina.os:setEnv.
@@ -35,12 +34,7 @@ public class SetEnv {
     }
 
     public static Object setEnv(Environment env, BString key, Object value) {
-        BMap<BString, Object> envMap = getEnvVariablesMap(env);
-        if (value == null) {
-            envMap.remove(key);
-        } else {
-            envMap.put(key, value);
-        }
+        getMutableEnvOverlay(env).set(key, (BString) value);
         return null;
     }
 }
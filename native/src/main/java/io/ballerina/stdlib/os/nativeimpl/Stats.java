@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessStatsTracker;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * External function for ballerina.os:Process.stats.
+ *
+ * @since 1.11.0
+ */
+public class Stats {
+
+    private static final String PROCESS_STATS = "ProcessStats";
+    private static final String PID = "pid";
+    private static final String ALIVE = "alive";
+    private static final String START_TIME = "startTime";
+    private static final String CPU_TIME = "cpuTime";
+    private static final String WALL_TIME = "wallTime";
+    private static final String RSS = "rss";
+    private static final String PEAK_RSS = "peakRss";
+    private static final String READ_BYTES = "readBytes";
+    private static final String WRITE_BYTES = "writeBytes";
+
+    private Stats() {
+
+    }
+
+    public static BMap<BString, Object> stats(BObject objVal) {
+        ProcessStatsTracker.Snapshot snapshot = OSUtils.statsTrackerFromObject(objVal).getSnapshot();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(PID, snapshot.pid());
+        stats.put(ALIVE, snapshot.alive());
+        stats.put(START_TIME, toSeconds(snapshot.startTime()));
+        stats.put(CPU_TIME, toSeconds(snapshot.cpuTime()));
+        stats.put(WALL_TIME, toSeconds(snapshot.wallTime()));
+        stats.put(RSS, snapshot.rss());
+        stats.put(PEAK_RSS, snapshot.peakRss());
+        stats.put(READ_BYTES, snapshot.readBytes());
+        stats.put(WRITE_BYTES, snapshot.writeBytes());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), PROCESS_STATS, stats);
+    }
+
+    private static BDecimal toSeconds(Duration duration) {
+        if (duration == null) {
+            return null;
+        }
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(duration.toNanos(), 9));
+    }
+
+    private static BDecimal toSeconds(Instant instant) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(instant.getEpochSecond())
+                .add(BigDecimal.valueOf(instant.getNano(), 9)));
+    }
+}
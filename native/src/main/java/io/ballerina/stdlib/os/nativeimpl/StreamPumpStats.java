@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.StreamPump;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Extern function os:getStreamPumpStats.
+ *
+ * @since 1.11.0
+ */
+public class StreamPumpStats {
+
+    private static final String STREAM_PUMP_STATS = "StreamPumpStats";
+    private static final String ACTIVE_PUMPS = "activePumps";
+    private static final String TOTAL_PUMPS = "totalPumps";
+    private static final String PUMPED_BYTES = "pumpedBytes";
+
+    private StreamPumpStats() {
+
+    }
+
+    public static BMap<BString, Object> getStreamPumpStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(ACTIVE_PUMPS, (long) StreamPump.getActivePumps());
+        stats.put(TOTAL_PUMPS, StreamPump.getTotalPumps());
+        stats.put(PUMPED_BYTES, StreamPump.getPumpedBytes());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), STREAM_PUMP_STATS, stats);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.os.utils.SystemResourceSampler;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * External functions for os:getSystemResources.
+ *
+ * @since 1.11.0
+ */
+public class SystemResources {
+
+    private static final String SYSTEM_RESOURCES = "SystemResources";
+    private static final String AVAILABLE_PROCESSORS = "availableProcessors";
+    private static final String CPU_LIMIT = "cpuLimit";
+    private static final String CPU_USAGE = "cpuUsage";
+    private static final String LOAD_AVERAGE_1 = "loadAverage1";
+    private static final String LOAD_AVERAGE_5 = "loadAverage5";
+    private static final String LOAD_AVERAGE_15 = "loadAverage15";
+    private static final String TOTAL_MEMORY = "totalMemory";
+    private static final String AVAILABLE_MEMORY = "availableMemory";
+    private static final String MEMORY_LIMIT = "memoryLimit";
+    private static final String MEMORY_USAGE = "memoryUsage";
+    private static final BigDecimal MAX_MILLIS = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    // The record created for the latest sample, which is returned until the next sample is taken
+    private static volatile CachedRecord cached = null;
+
+    private record CachedRecord(SystemResourceSampler.Sample sample, BMap<BString, Object> value) {
+    }
+
+    private SystemResources() {
+
+    }
+
+    /**
+     * Sets the interval between the samples. The interval is rounded up to a whole millisecond, so that a positive
+     * interval below a millisecond is sampled every millisecond instead of being truncated to zero.
+     */
+    public static void configure(BDecimal interval) {
+        BigDecimal millis = interval.decimalValue().movePointRight(3).setScale(0, RoundingMode.CEILING);
+        SystemResourceSampler.configure(millis.compareTo(MAX_MILLIS) > 0 ? Long.MAX_VALUE : millis.longValue());
+    }
+
+    public static BMap<BString, Object> getSystemResources() {
+        SystemResourceSampler.Sample sample = SystemResourceSampler.getLatest();
+        CachedRecord current = cached;
+        if (current != null && current.sample() == sample) {
+            return current.value();
+        }
+        Map<String, Object> resources = new HashMap<>();
+        resources.put(AVAILABLE_PROCESSORS, (long) sample.availableProcessors());
+        resources.put(CPU_LIMIT, sample.cpuLimit());
+        resources.put(CPU_USAGE, sample.cpuUsage());
+        resources.put(LOAD_AVERAGE_1, sample.loadAverage1());
+        resources.put(LOAD_AVERAGE_5, sample.loadAverage5());
+        resources.put(LOAD_AVERAGE_15, sample.loadAverage15());
+        resources.put(TOTAL_MEMORY, sample.totalMemory());
+        resources.put(AVAILABLE_MEMORY, sample.availableMemory());
+        resources.put(MEMORY_LIMIT, sample.memoryLimit());
+        resources.put(MEMORY_USAGE, sample.memoryUsage());
+        BMap<BString, Object> value = ValueCreator.createReadonlyRecordValue(ModuleUtils.getModule(),
+                SYSTEM_RESOURCES, resources);
+        cached = new CachedRecord(sample, value);
+        return value;
+    }
+}
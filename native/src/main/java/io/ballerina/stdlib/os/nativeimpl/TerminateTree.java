@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External function for ballerina.os:Process.terminateTree.
+ *
+ * @since 1.11.0
+ */
+public class TerminateTree {
+
+    private static final long FORCIBLE_EXIT_TIMEOUT_SECONDS = 5;
+
+    private TerminateTree() {
+
+    }
+
+    /**
+     * Terminates the process and all its descendants. The tree is captured before any process is signalled, so that
+     * the descendants are still found after their parent exits. All the processes are first asked to terminate, and
+     * the ones still alive after the grace period are terminated forcibly.
+     *
+     * @return the number of processes of the tree, which have exited
+     */
+    public static Object terminateTree(Environment env, BObject objVal, BDecimal gracePeriod) {
+        Process process = OSUtils.processFromObject(objVal);
+        long graceNanos = OSUtils.toTimeoutNanos(gracePeriod);
+        return env.yieldAndRun(() -> {
+            List<ProcessHandle> tree = new ArrayList<>();
+            tree.add(process.toHandle());
+            process.descendants().forEach(tree::add);
+            tree.forEach(ProcessHandle::destroy);
+            try {
+                if (!awaitExit(tree, graceNanos)) {
+                    // Processes started during the grace period are terminated as well.
+                    process.descendants().filter(handle -> !tree.contains(handle)).forEach(tree::add);
+                    tree.stream().filter(ProcessHandle::isAlive).forEach(ProcessHandle::destroyForcibly);
+                    awaitExit(tree, TimeUnit.SECONDS.toNanos(FORCIBLE_EXIT_TIMEOUT_SECONDS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to terminate the process tree", e);
+            }
+            return tree.stream().filter(handle -> !handle.isAlive()).count();
+        });
+    }
+
+    private static boolean awaitExit(List<ProcessHandle> tree, long timeoutNanos) throws InterruptedException {
+        CompletableFuture<?>[] exits = tree.stream().map(ProcessHandle::onExit).toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(exits).get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+}
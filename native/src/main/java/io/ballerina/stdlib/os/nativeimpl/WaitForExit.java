@@ -18,10 +18,15 @@
 
 package io.ballerina.stdlib.os.nativeimpl;
 
+import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.os.utils.OSUtils;
+import io.ballerina.stdlib.os.utils.ProcessMetrics;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 
 import static io.ballerina.stdlib.os.nativeimpl.Errors.ProcessExecError;
 
@@ -36,13 +41,37 @@ public class WaitForExit {
 
     }
 
-    public static Object waitForExit(BObject objVal) {
+    /**
+     * Waits for the process to exit without holding a scheduler thread. The strand yields while the exit is
+     * awaited on {@link Process#onExit()}, so a large number of strands can wait on child processes concurrently.
+     * If the process does not exit within the timeout, it is terminated and its streams are closed.
+     *
+     * @param timeout timeout in seconds as a {@link io.ballerina.runtime.api.values.BDecimal}, or {@code null}
+     */
+    public static Object waitForExit(Environment env, BObject objVal, Object timeout) {
         Process process = OSUtils.processFromObject(objVal);
-        try {
-            return process.waitFor();
-        } catch (InterruptedException e) {
-            return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
-                    StringUtils.fromString("Failed to wait for process to exit" + ": " + e.getMessage()), null, null);
-        }
+        long timeoutNanos = OSUtils.toTimeoutNanos(timeout);
+        String executable = OSUtils.executableFromObject(objVal);
+        long startNanos = System.nanoTime();
+        return env.yieldAndRun(() -> {
+            try {
+                long exitCode = OSUtils.await(process.onExit(), timeoutNanos).exitValue();
+                ProcessMetrics.recordWait(executable, startNanos);
+                return exitCode;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createWaitError(e);
+            } catch (ExecutionException e) {
+                return createWaitError(e);
+            } catch (TimeoutException e) {
+                OSUtils.terminate(process);
+                return ErrorGenerator.createTimeoutError("The process did not exit within the timeout");
+            }
+        });
+    }
+
+    private static Object createWaitError(Exception e) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), String.valueOf(ProcessExecError),
+                StringUtils.fromString("Failed to wait for process to exit" + ": " + e.getMessage()), null, null);
     }
 }
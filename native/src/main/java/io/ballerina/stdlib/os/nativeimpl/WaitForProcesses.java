@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.os.utils.OSUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static io.ballerina.stdlib.os.nativeimpl.ErrorGenerator.createProcessExecError;
+
+/**
+ * External functions for os:waitAny and os:waitAll.
+ *
+ * @since 1.11.0
+ */
+public class WaitForProcesses {
+
+    private static final String EXITED_PROCESS = "ExitedProcess";
+    private static final String PROCESS = "process";
+    private static final String INDEX = "index";
+    private static final String EXIT_CODE = "exitCode";
+
+    private WaitForProcesses() {
+
+    }
+
+    /**
+     * Waits for the first of the processes to exit. The {@link Process#onExit()} futures of the processes are
+     * combined, so only the calling strand waits, however many processes are given.
+     */
+    public static Object waitAny(Environment env, BArray processObjs) {
+        Process[] processes = getProcesses(processObjs);
+        CompletableFuture<?>[] exits = getExits(processes);
+        return env.yieldAndRun(() -> {
+            try {
+                Process exited = (Process) CompletableFuture.anyOf(exits).get();
+                int index = 0;
+                while (processes[index] != exited) {
+                    index++;
+                }
+                Map<String, Object> result = new HashMap<>();
+                result.put(PROCESS, processObjs.get(index));
+                result.put(INDEX, (long) index);
+                result.put(EXIT_CODE, (long) exited.exitValue());
+                return ValueCreator.createRecordValue(ModuleUtils.getModule(), EXITED_PROCESS, result);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to wait for the processes to exit", e);
+            } catch (ExecutionException e) {
+                return createProcessExecError("Failed to wait for the processes to exit", OSUtils.getCause(e));
+            }
+        });
+    }
+
+    /**
+     * Waits for all the processes to exit. The {@link Process#onExit()} futures of the processes are combined, so
+     * only the calling strand waits, however many processes are given. If the processes do not exit within the
+     * timeout, the ones still running are terminated.
+     *
+     * @param timeout timeout in seconds as a {@link io.ballerina.runtime.api.values.BDecimal}, or {@code null}
+     */
+    public static Object waitAll(Environment env, BArray processObjs, Object timeout) {
+        Process[] processes = getProcesses(processObjs);
+        long timeoutNanos = OSUtils.toTimeoutNanos(timeout);
+        CompletableFuture<?>[] exits = getExits(processes);
+        return env.yieldAndRun(() -> {
+            try {
+                OSUtils.await(CompletableFuture.allOf(exits), timeoutNanos);
+                long[] exitCodes = new long[processes.length];
+                for (int i = 0; i < processes.length; i++) {
+                    exitCodes[i] = processes[i].exitValue();
+                }
+                return ValueCreator.createArrayValue(exitCodes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return createProcessExecError("Failed to wait for the processes to exit", e);
+            } catch (ExecutionException e) {
+                return createProcessExecError("Failed to wait for the processes to exit", OSUtils.getCause(e));
+            } catch (TimeoutException e) {
+                int running = 0;
+                for (Process process : processes) {
+                    if (process.isAlive()) {
+                        OSUtils.terminate(process);
+                        running++;
+                    }
+                }
+                return ErrorGenerator.createTimeoutError(running + " of the " + processes.length +
+                        " processes did not exit within the timeout");
+            }
+        });
+    }
+
+    private static CompletableFuture<?>[] getExits(Process[] processes) {
+        CompletableFuture<?>[] exits = new CompletableFuture<?>[processes.length];
+        for (int i = 0; i < processes.length; i++) {
+            exits[i] = processes[i].onExit();
+        }
+        return exits;
+    }
+
+    private static Process[] getProcesses(BArray processObjs) {
+        Process[] processes = new Process[processObjs.size()];
+        for (int i = 0; i < processes.length; i++) {
+            processes[i] = OSUtils.processFromObject((BObject) processObjs.get(i));
+        }
+        return processes;
+    }
+}
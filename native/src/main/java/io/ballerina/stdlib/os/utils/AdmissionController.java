@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the number of child processes running at a time across the whole module. A process can only be started
+ * after a slot is acquired, and the slot is released when the process exits. When no slot is free, a request waits in
+ * a bounded queue for at most the configured timeout.
+ *
+ * @since 1.11.0
+ */
+public final class AdmissionController {
+
+    private static volatile Semaphore slots = null;
+    private static volatile int maxRunning = -1;
+    private static volatile int maxQueued = -1;
+    private static volatile long queueTimeoutNanos = -1;
+    private static final AtomicInteger QUEUED = new AtomicInteger();
+    private static final AtomicInteger RUNNING = new AtomicInteger();
+    private static final AtomicLong TOTAL_QUEUED = new AtomicLong();
+    private static final AtomicLong TOTAL_WAIT_NANOS = new AtomicLong();
+    private static final AtomicLong MAX_WAIT_NANOS = new AtomicLong();
+
+    private AdmissionController() {}
+
+    /**
+     * Configures the limits. A negative value disables the respective limit.
+     *
+     * @param maxConcurrent       maximum number of child processes running at a time
+     * @param maxQueuedRequests   maximum number of requests waiting for a slot
+     * @param queueTimeoutSeconds maximum time a request waits for a slot
+     */
+    public static void configure(long maxConcurrent, long maxQueuedRequests, double queueTimeoutSeconds) {
+        maxRunning = maxConcurrent < 0 ? -1 : (int) Math.min(maxConcurrent, Integer.MAX_VALUE);
+        slots = maxRunning < 0 ? null : new Semaphore(maxRunning, true);
+        maxQueued = (int) Math.min(maxQueuedRequests, Integer.MAX_VALUE);
+        queueTimeoutNanos = queueTimeoutSeconds < 0 ? -1 : (long) (queueTimeoutSeconds * 1_000_000_000L);
+    }
+
+    /**
+     * Acquires the given number of slots without waiting. The slots are not taken ahead of the requests waiting in
+     * the queue, so that a steady stream of new requests cannot starve them.
+     *
+     * @return whether the slots were acquired
+     */
+    public static boolean tryAcquire(int permits) {
+        Semaphore semaphore = slots;
+        if (semaphore == null) {
+            RUNNING.addAndGet(permits);
+            return true;
+        }
+        try {
+            // Unlike the untimed tryAcquire, a timed tryAcquire honours the fairness of the semaphore.
+            if (semaphore.tryAcquire(permits, 0, TimeUnit.NANOSECONDS)) {
+                RUNNING.addAndGet(permits);
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Acquires the given number of slots, waiting in the queue if they are not free.
+     *
+     * @throws IOException if the queue is full or the wait times out
+     */
+    public static void acquire(int permits) throws IOException, InterruptedException {
+        if (tryAcquire(permits)) {
+            return;
+        }
+        Semaphore semaphore = slots;
+        if (QUEUED.incrementAndGet() > maxQueued && maxQueued >= 0) {
+            QUEUED.decrementAndGet();
+            throw new IOException("The exec queue is full");
+        }
+        long start = System.nanoTime();
+        try {
+            boolean acquired;
+            if (queueTimeoutNanos < 0) {
+                semaphore.acquire(permits);
+                acquired = true;
+            } else {
+                acquired = semaphore.tryAcquire(permits, queueTimeoutNanos, TimeUnit.NANOSECONDS);
+            }
+            if (!acquired) {
+                throw new IOException("Timed out waiting for a free exec slot");
+            }
+            RUNNING.addAndGet(permits);
+        } finally {
+            QUEUED.decrementAndGet();
+            long waited = System.nanoTime() - start;
+            TOTAL_QUEUED.incrementAndGet();
+            TOTAL_WAIT_NANOS.addAndGet(waited);
+            MAX_WAIT_NANOS.accumulateAndGet(waited, Math::max);
+        }
+    }
+
+    /**
+     * Returns whether the given number of slots is more than the total number of slots, in which case they can never
+     * be acquired together.
+     */
+    public static boolean exceedsLimit(int permits) {
+        int limit = maxRunning;
+        return limit >= 0 && permits > limit;
+    }
+
+    public static int getMaxRunning() {
+        return maxRunning;
+    }
+
+    /**
+     * Releases the given number of slots, for example when a process could not be started.
+     */
+    public static void release(int permits) {
+        RUNNING.addAndGet(-permits);
+        Semaphore semaphore = slots;
+        if (semaphore != null) {
+            semaphore.release(permits);
+        }
+    }
+
+    /**
+     * Starts a process with an acquired slot. The slot is released when the process exits, or right away if the
+     * process cannot be started for any reason.
+     *
+     * @param pb         builder of the process
+     * @param executable name of the executable recorded in the metrics
+     * @return the started process
+     */
+    public static Process start(ProcessBuilder pb, String executable) throws IOException {
+        try {
+            long startNanos = System.nanoTime();
+            return register(ProcessMetrics.recordSpawn(executable, startNanos, pb.start()));
+        } catch (IOException | RuntimeException e) {
+            release(1);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases the slot of the given process when it exits.
+     *
+     * @param process process started with an acquired slot
+     * @return the given process
+     */
+    public static Process register(Process process) {
+        process.onExit().whenComplete((exited, e) -> release(1));
+        return process;
+    }
+
+    public static int getRunning() {
+        return RUNNING.get();
+    }
+
+    public static int getQueued() {
+        return QUEUED.get();
+    }
+
+    public static long getTotalQueued() {
+        return TOTAL_QUEUED.get();
+    }
+
+    public static long getTotalWaitNanos() {
+        return TOTAL_WAIT_NANOS.get();
+    }
+
+    public static long getMaxWaitNanos() {
+        return MAX_WAIT_NANOS.get();
+    }
+}
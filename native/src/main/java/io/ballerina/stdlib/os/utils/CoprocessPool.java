@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A pool of long-lived worker processes, which serve framed requests over their standard input and respond over their
+ * standard output. A worker serves one request at a time and is expected to write exactly one response frame per
+ * request, so a response is matched to the request that was written before it.
+ * <p>
+ * A worker is used only by the caller, which has taken it from the idle queue, so the state of a worker is changed
+ * either by that caller or, while the worker is idle, by {@link #checkHealth()}.
+ *
+ * @since 1.11.0
+ */
+public class CoprocessPool {
+
+    /**
+     * Framing of the requests and the responses exchanged with the workers.
+     */
+    public enum Framing {
+        NEWLINE, LENGTH_PREFIX, NUL
+    }
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "os-coprocess-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ProcessBuilder processBuilder;
+    private final String executable;
+    private final Framing framing;
+    private final int maxResponseSize;
+    private final long timeoutNanos;
+    private final List<Worker> workers;
+    private final BlockingQueue<Worker> idleWorkers;
+    private volatile boolean closed = false;
+
+    /**
+     * Starts the workers of the pool.
+     *
+     * @param processBuilder  builder of the worker processes
+     * @param framing         framing of the requests and the responses
+     * @param size            number of workers
+     * @param maxResponseSize maximum size of a response in bytes
+     * @param timeoutNanos    maximum time a call waits for a response, or a negative value to wait without a timeout
+     */
+    public CoprocessPool(ProcessBuilder processBuilder, Framing framing, int size, int maxResponseSize,
+                         long timeoutNanos) throws IOException {
+        if (AdmissionController.exceedsLimit(size)) {
+            throw new IOException(String.format("The pool has %d workers, but at most %d processes can run at a time",
+                    size, AdmissionController.getMaxRunning()));
+        }
+        this.processBuilder = processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        this.executable = ProcessMetrics.getExecutableName(processBuilder.command());
+        this.framing = framing;
+        this.maxResponseSize = maxResponseSize;
+        this.timeoutNanos = timeoutNanos;
+        this.workers = new ArrayList<>(size);
+        this.idleWorkers = new LinkedBlockingQueue<>();
+        try {
+            for (int i = 0; i < size; i++) {
+                Worker worker = new Worker();
+                workers.add(worker);
+                idleWorkers.add(worker);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the request to an idle worker and returns its response. A worker, which has exited, is restarted before
+     * it is used. If the exchange fails or does not complete within the timeout, the worker is restarted and the
+     * failure is reported to the caller, since the request may already have been processed.
+     */
+    public byte[] call(byte[] request) throws IOException, InterruptedException, TimeoutException {
+        if (closed) {
+            throw new IOException("Coprocess is closed");
+        }
+        int delimiter = framing == Framing.NUL ? 0 : '\n';
+        if (framing != Framing.LENGTH_PREFIX) {
+            for (byte b : request) {
+                if (b == delimiter) {
+                    throw new IOException("The request contains the frame delimiter");
+                }
+            }
+        }
+        Worker worker = idleWorkers.take();
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> timer = null;
+        try {
+            if (!worker.isAlive()) {
+                worker.restart();
+            }
+            if (timeoutNanos >= 0) {
+                // A blocked pipe read cannot be interrupted, so the worker is terminated to end the read.
+                timer = TIMER.schedule(() -> {
+                    timedOut.set(true);
+                    worker.terminate();
+                }, timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+            worker.write(request);
+            return worker.read();
+        } catch (IOException e) {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            if (!closed) {
+                try {
+                    worker.restart();
+                } catch (IOException restartError) {
+                    // The worker is restarted again before it serves the next call
+                    e.addSuppressed(restartError);
+                }
+            }
+            if (timedOut.get()) {
+                throw new TimeoutException("The coprocess did not respond within the timeout");
+            }
+            throw e;
+        } finally {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            idleWorkers.add(worker);
+        }
+    }
+
+    /**
+     * Restarts the idle workers, which have exited. A worker, which is serving a call, is counted as alive and is left
+     * to the caller, which restarts it if the exchange fails.
+     *
+     * @return the number of workers, which are alive
+     */
+    public synchronized int checkHealth() {
+        int alive = 0;
+        for (Worker worker : workers) {
+            if (closed) {
+                break;
+            }
+            if (!idleWorkers.remove(worker)) {
+                alive++;
+                continue;
+            }
+            try {
+                if (!worker.isAlive()) {
+                    worker.restart();
+                }
+                if (worker.isAlive()) {
+                    alive++;
+                }
+            } catch (IOException e) {
+                // The worker is restarted again before it serves the next call
+            } finally {
+                idleWorkers.add(worker);
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * Terminates all the workers. A call in progress fails, and its worker is not restarted.
+     */
+    public synchronized void close() {
+        closed = true;
+        for (Worker worker : workers) {
+            worker.terminate();
+        }
+    }
+
+    private class Worker {
+
+        private Process process;
+        private DataOutputStream in;
+        private DataInputStream out;
+
+        Worker() throws IOException {
+            start();
+        }
+
+        /**
+         * Starts the process of the worker once an exec slot is free, so that the workers count towards the limit of
+         * processes running at a time. The slot is held until the process exits.
+         */
+        private void start() throws IOException {
+            try {
+                AdmissionController.acquire(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for a free exec slot", e);
+            }
+            process = AdmissionController.start(processBuilder, executable);
+            in = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            out = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+        }
+
+        private synchronized boolean isAlive() {
+            return process.isAlive();
+        }
+
+        /**
+         * Replaces the process of the worker. Holding the lock of the worker while checking {@link #closed} ensures
+         * that a process started here is either seen and terminated by {@link #close()}, or not started at all.
+         */
+        private synchronized void restart() throws IOException {
+            OSUtils.terminate(process);
+            if (closed) {
+                throw new IOException("Coprocess is closed");
+            }
+            start();
+        }
+
+        private synchronized void terminate() {
+            OSUtils.terminate(process);
+        }
+
+        private void write(byte[] request) throws IOException {
+            switch (framing) {
+                case LENGTH_PREFIX -> {
+                    in.writeInt(request.length);
+                    in.write(request);
+                }
+                case NUL -> {
+                    in.write(request);
+                    in.write(0);
+                }
+                default -> {
+                    in.write(request);
+                    in.write('\n');
+                }
+            }
+            in.flush();
+        }
+
+        private byte[] read() throws IOException {
+            return switch (framing) {
+                case LENGTH_PREFIX -> {
+                    int length = out.readInt();
+                    if (length < 0 || length > maxResponseSize) {
+                        throw new IOException("The coprocess responded with an invalid frame length: " + length);
+                    }
+                    byte[] response = new byte[length];
+                    out.readFully(response);
+                    yield response;
+                }
+                case NUL -> readDelimited(out, 0);
+                default -> readDelimited(out, '\n');
+            };
+        }
+
+        private byte[] readDelimited(InputStream in, int delimiter) throws IOException {
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != delimiter) {
+                if (b == -1) {
+                    throw new EOFException("The coprocess exited before responding");
+                }
+                if (response.size() == maxResponseSize) {
+                    throw new IOException("The response of the coprocess exceeds " + maxResponseSize + " bytes");
+                }
+                response.write(b);
+            }
+            return response.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Environment variables seen by a strand. The environment of the process is copied once into a snapshot, which is
+ * shared by all the strands, and each strand, which sets or unsets a variable, keeps only its own changes in an
+ * overlay on top of the snapshot.
+ *
+ * @since 1.11.0
+ */
+public class EnvOverlay {
+
+    /**
+     * Overlay without any changes, which is used by the strands that have not changed the environment.
+     */
+    public static final EnvOverlay EMPTY = new EnvOverlay();
+
+    // A null value marks a variable as unset in the strand.
+    private final Map<BString, BString> changes = new HashMap<>();
+    private BMap<BString, Object> mergedMap;
+    private Map<String, String> environmentChanges;
+
+    /**
+     * Returns the value of an environment variable.
+     *
+     * @param key name of the variable
+     * @return the value of the variable, or {@code null} if it is not set
+     */
+    public BString get(BString key) {
+        if (changes.containsKey(key)) {
+            return changes.get(key);
+        }
+        return Snapshot.VALUES.get(key);
+    }
+
+    /**
+     * Sets or unsets an environment variable in the overlay.
+     *
+     * @param key   name of the variable
+     * @param value value of the variable, or {@code null} to unset it
+     */
+    public void set(BString key, BString value) {
+        if (this == EMPTY) {
+            throw new IllegalStateException("The shared environment cannot be changed");
+        }
+        BString current = get(key);
+        if (value == null ? current == null : value.equals(current)) {
+            return;
+        }
+        if (value == null ? !Snapshot.VALUES.containsKey(key) : value.equals(Snapshot.VALUES.get(key))) {
+            changes.remove(key);
+        } else {
+            changes.put(key, value);
+        }
+        mergedMap = null;
+        environmentChanges = null;
+    }
+
+    /**
+     * Applies the changes of the overlay to the environment of a process to be started. The changes are converted
+     * once and reused until the overlay changes. If there are no changes, the environment of the builder is not
+     * touched, so that the process inherits the environment of the JVM without it being copied.
+     * <p>
+     * This path is not optimized beyond that. {@link ProcessBuilder} has no way to accept a prepared environment, so
+     * {@link ProcessBuilder#environment()} copies the whole environment of the JVM for every process started by a
+     * strand with changes, and the copy is converted into the environment block of the process when it is started.
+     *
+     * @param pb builder of the process
+     */
+    public void applyTo(ProcessBuilder pb) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (environmentChanges == null) {
+            Map<String, String> converted = new HashMap<>();
+            for (Map.Entry<BString, BString> change : changes.entrySet()) {
+                BString value = change.getValue();
+                converted.put(change.getKey().getValue(), value == null ? null : value.getValue());
+            }
+            environmentChanges = converted;
+        }
+        Map<String, String> pbEnv = pb.environment();
+        for (Map.Entry<String, String> change : environmentChanges.entrySet()) {
+            if (change.getValue() == null) {
+                pbEnv.remove(change.getKey());
+            } else {
+                pbEnv.put(change.getKey(), change.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns all the environment variables seen by the strand as a read-only map. The map is created again only
+     * after the overlay has changed.
+     *
+     * @return a read-only map of the environment variables
+     */
+    public BMap<BString, Object> toReadOnlyMap() {
+        if (changes.isEmpty()) {
+            return Snapshot.READ_ONLY_MAP;
+        }
+        if (mergedMap == null) {
+            Map<BString, BString> values = new HashMap<>(Snapshot.VALUES);
+            for (Map.Entry<BString, BString> change : changes.entrySet()) {
+                if (change.getValue() == null) {
+                    values.remove(change.getKey());
+                } else {
+                    values.put(change.getKey(), change.getValue());
+                }
+            }
+            mergedMap = createReadOnlyMap(values);
+        }
+        return mergedMap;
+    }
+
+    private static BMap<BString, Object> createReadOnlyMap(Map<BString, BString> values) {
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        for (Map.Entry<BString, BString> entry : values.entrySet()) {
+            map.put(entry.getKey(), entry.getValue());
+        }
+        map.freezeDirect();
+        return map;
+    }
+
+    /**
+     * Snapshot of the environment of the process. The environment of the JVM cannot change after it is started, so
+     * the snapshot is created on first use and never refreshed.
+     */
+    private static final class Snapshot {
+
+        private static final Map<BString, BString> VALUES;
+        private static final BMap<BString, Object> READ_ONLY_MAP;
+
+        static {
+            Map<BString, BString> values = new HashMap<>();
+            for (Map.Entry<String, String> entry : System.getenv().entrySet()) {
+                values.put(StringUtils.fromString(entry.getKey()), StringUtils.fromString(entry.getValue()));
+            }
+            VALUES = Map.copyOf(values);
+            READ_ONLY_MAP = createReadOnlyMap(VALUES);
+        }
+
+        private Snapshot() {
+
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import static io.ballerina.stdlib.os.utils.OSConstants.STDERR;
+import static io.ballerina.stdlib.os.utils.OSConstants.STDOUT;
+
+/**
+ * Runs a batch of processes, keeping at most a given number of them alive at a time. The output of each process is
+ * drained concurrently while it runs, and the results are made available in the order in which the processes finish.
+ *
+ * @since 1.11.0
+ */
+public class ExecBatch {
+
+    /**
+     * Result of a process of the batch.
+     *
+     * @param index    index of the process in the batch
+     * @param exitCode exit code of the process
+     * @param stdout   bytes read from the standard output of the process
+     * @param stderr   bytes read from the standard error of the process
+     * @param error    failure to start or to collect the process, or {@code null} if it ran to completion
+     */
+    public record Completion(int index, int exitCode, byte[] stdout, byte[] stderr, Throwable error) {
+    }
+
+    private static final Completion END = new Completion(-1, -1, null, null, null);
+
+    private final List<ProcessBuilder> builders;
+    private final long outputLimit;
+    private final Semaphore permits;
+    private final BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+    private volatile boolean cancelled = false;
+    private int remaining;
+
+    /**
+     * Creates a batch.
+     *
+     * @param builders    builders of the processes
+     * @param maxParallel maximum number of processes alive at a time
+     * @param outputLimit maximum number of bytes retained from each output of a process, or a negative value to
+     *                    retain all the bytes
+     */
+    public ExecBatch(List<ProcessBuilder> builders, int maxParallel, long outputLimit) {
+        this.builders = builders;
+        this.outputLimit = outputLimit;
+        this.permits = new Semaphore(maxParallel);
+        this.remaining = builders.size();
+    }
+
+    public void start() {
+        StreamPump.execute(this::schedule);
+    }
+
+    /**
+     * Returns the next result in the order of completion, waiting for a process to finish if needed.
+     *
+     * @return the next result, or {@code null} if all the started processes have been returned or the batch has been
+     * cancelled
+     */
+    public Completion next() throws InterruptedException {
+        synchronized (this) {
+            if (remaining == 0) {
+                return null;
+            }
+            remaining--;
+        }
+        Completion completion = completions.take();
+        if (completion == END) {
+            // Left in the queue, so that every other call waiting for a result ends as well.
+            completions.add(END);
+            return null;
+        }
+        return completion;
+    }
+
+    /**
+     * Stops starting the remaining processes of the batch, and ends the calls waiting for a result. The processes,
+     * which are already running, are left to finish.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        remaining = 0;
+        completions.add(END);
+    }
+
+    private void schedule() {
+        for (int i = 0; i < builders.size(); i++) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (cancelled) {
+                return;
+            }
+            int index = i;
+            Process process;
+            try {
+                AdmissionController.acquire(1);
+            } catch (IOException e) {
+                permits.release();
+                completions.add(new Completion(index, -1, null, null, e));
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            String executable = ProcessMetrics.getExecutableName(builders.get(i).command());
+            try {
+                process = AdmissionController.start(builders.get(i), executable);
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                completions.add(new Completion(index, -1, null, null, e));
+                continue;
+            }
+            CompletableFuture<byte[]> stdout = StreamPump.drain(process, process.getInputStream(), outputLimit,
+                    bytesRead -> ProcessMetrics.recordOutputBytes(executable, STDOUT, bytesRead));
+            CompletableFuture<byte[]> stderr = StreamPump.drain(process, process.getErrorStream(), outputLimit,
+                    bytesRead -> ProcessMetrics.recordOutputBytes(executable, STDERR, bytesRead));
+            CompletableFuture.allOf(process.onExit(), stdout, stderr).whenComplete((ignored, error) -> {
+                permits.release();
+                if (error != null) {
+                    completions.add(new Completion(index, -1, null, null, error));
+                } else {
+                    completions.add(new Completion(index, process.exitValue(), stdout.join(), stderr.join(),
+                            null));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+/**
+ * Retains the first and the last bytes written to it within a fixed budget. The tail is kept in a ring buffer, so
+ * the memory used does not depend on the number of bytes written. Both buffers grow with the bytes written up to their
+ * limits, so a large budget does not allocate memory for output which is never written.
+ *
+ * @since 1.11.0
+ */
+public class HeadTailBuffer {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int headLimit;
+    private final int tailLimit;
+    private byte[] head = EMPTY;
+    private byte[] tail = EMPTY;
+    private int headSize = 0;
+    private int tailPosition = 0;
+    private int tailSize = 0;
+    private long total = 0;
+
+    public HeadTailBuffer(int headLimit, int tailLimit) {
+        this.headLimit = headLimit;
+        this.tailLimit = tailLimit;
+    }
+
+    public void write(byte[] bytes, int offset, int length) {
+        total += length;
+        int toHead = Math.min(length, headLimit - headSize);
+        if (toHead > 0) {
+            head = grow(head, headSize, headSize + toHead, headLimit);
+            System.arraycopy(bytes, offset, head, headSize, toHead);
+            headSize += toHead;
+            offset += toHead;
+            length -= toHead;
+        }
+        if (length == 0 || tailLimit == 0) {
+            return;
+        }
+        if (length >= tailLimit) {
+            tail = grow(tail, 0, tailLimit, tailLimit);
+            System.arraycopy(bytes, offset + length - tailLimit, tail, 0, tailLimit);
+            tailPosition = 0;
+            tailSize = tailLimit;
+            return;
+        }
+        if (tail.length < tailLimit) {
+            // The tail has not wrapped around yet, so its bytes are kept in order from the start of the buffer.
+            tail = grow(tail, tailSize, Math.min(tailLimit, tailSize + length), tailLimit);
+            tailPosition = tailSize % tail.length;
+        }
+        int firstPart = Math.min(length, tail.length - tailPosition);
+        System.arraycopy(bytes, offset, tail, tailPosition, firstPart);
+        System.arraycopy(bytes, offset + firstPart, tail, 0, length - firstPart);
+        tailPosition = (tailPosition + length) % tail.length;
+        tailSize = Math.min(tail.length, tailSize + length);
+    }
+
+    /**
+     * Returns a buffer of at least the required capacity, which keeps the first bytes of the given buffer. The
+     * capacity is doubled when the buffer grows, but never exceeds the limit.
+     */
+    private static byte[] grow(byte[] buffer, int size, int required, int limit) {
+        if (buffer.length >= required) {
+            return buffer;
+        }
+        int capacity = (int) Math.min(limit, Math.max(required, 2L * buffer.length));
+        byte[] grown = new byte[capacity];
+        System.arraycopy(buffer, 0, grown, 0, size);
+        return grown;
+    }
+
+    public byte[] getHead() {
+        byte[] result = new byte[headSize];
+        System.arraycopy(head, 0, result, 0, headSize);
+        return result;
+    }
+
+    public byte[] getTail() {
+        byte[] result = new byte[tailSize];
+        int start = (tailPosition - tailSize + tail.length) % Math.max(tail.length, 1);
+        int firstPart = Math.min(tailSize, tail.length - start);
+        System.arraycopy(tail, start, result, 0, firstPart);
+        System.arraycopy(tail, 0, result, firstPart, tailSize - firstPart);
+        return result;
+    }
+
+    public long getTotalBytes() {
+        return total;
+    }
+
+    public long getDroppedBytes() {
+        return total - headSize - tailSize;
+    }
+}
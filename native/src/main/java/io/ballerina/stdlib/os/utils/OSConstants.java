@@ -29,6 +29,14 @@ public class OSConstants {
 
     static final String PROCESS_FIELD = "ProcessField";
 
+    static final String PROCESS_STATS_FIELD = "ProcessStatsField";
+
+    static final String EXECUTABLE_FIELD = "ExecutableField";
+
+    public static final long STDOUT = 1;
+
+    public static final long STDERR = 2;
+
     public static final String ENV_VAR_KEY = "io.ballerina.stdlib.os.environment.variables";
 
     private OSConstants() {
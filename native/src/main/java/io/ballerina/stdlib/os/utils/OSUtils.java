@@ -18,33 +18,46 @@
 package io.ballerina.stdlib.os.utils;
 
 import io.ballerina.runtime.api.Environment;
-import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MapType;
-import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static io.ballerina.stdlib.os.nativeimpl.ModuleUtils.getModule;
 import static io.ballerina.stdlib.os.utils.OSConstants.ENV_VAR_KEY;
+import static io.ballerina.stdlib.os.utils.OSConstants.EXECUTABLE_FIELD;
 import static io.ballerina.stdlib.os.utils.OSConstants.PROCESS_FIELD;
+import static io.ballerina.stdlib.os.utils.OSConstants.PROCESS_STATS_FIELD;
 import static io.ballerina.stdlib.os.utils.OSConstants.PROCESS_TYPE;
+import static io.ballerina.stdlib.os.utils.OSConstants.STDOUT;
 
 /**
  * @since 0.8.0
  */
 public final class OSUtils {
 
+    private static final BigDecimal MAX_NANOS = BigDecimal.valueOf(Long.MAX_VALUE);
+
     private OSUtils() {}
 
-    public static BObject getProcessObject(Process process) throws IOException {
+    public static BObject getProcessObject(Process process, String executable) {
         BObject obj = ValueCreator.createObjectValue(getModule(), PROCESS_TYPE);
         obj.addNativeData(PROCESS_FIELD, process);
+        obj.addNativeData(EXECUTABLE_FIELD, executable);
+        obj.addNativeData(PROCESS_STATS_FIELD, ProcessStatsTracker.start(process));
         return obj;
     }
 
@@ -52,6 +65,103 @@ public final class OSUtils {
         return (Process) objVal.getNativeData(PROCESS_FIELD);
     }
 
+    public static String executableFromObject(BObject objVal) {
+        return (String) objVal.getNativeData(EXECUTABLE_FIELD);
+    }
+
+    public static ProcessStatsTracker statsTrackerFromObject(BObject objVal) {
+        return (ProcessStatsTracker) objVal.getNativeData(PROCESS_STATS_FIELD);
+    }
+
+    /**
+     * Returns the stream of the process which corresponds to the given `io:FileOutputStream` value.
+     *
+     * @param process          process
+     * @param fileOutputStream `io:stdout` (1) for the standard output, or `io:stderr` (2) for the standard error
+     * @return the standard output or the standard error stream of the process
+     */
+    public static InputStream getOutputStream(Process process, long fileOutputStream) {
+        if (fileOutputStream == STDOUT) {
+            return process.getInputStream();
+        }
+        return process.getErrorStream();
+    }
+
+    /**
+     * Converts a nilable Ballerina timeout in seconds to nanoseconds.
+     *
+     * @param timeout timeout as a {@link BDecimal}, or {@code null} if there is no timeout
+     * @return the timeout in nanoseconds, clamped to {@link Long#MAX_VALUE}, or -1 if there is no timeout
+     */
+    public static long toTimeoutNanos(Object timeout) {
+        if (timeout == null) {
+            return -1;
+        }
+        BigDecimal nanos = ((BDecimal) timeout).decimalValue().movePointRight(9);
+        if (nanos.compareTo(MAX_NANOS) > 0) {
+            return Long.MAX_VALUE;
+        }
+        return nanos.longValue();
+    }
+
+    /**
+     * Waits for the given future to complete, for at most the given timeout.
+     *
+     * @param future       future to be waited on
+     * @param timeoutNanos timeout in nanoseconds, or a negative value to wait without a timeout
+     * @return the result of the future
+     */
+    public static <T> T await(CompletableFuture<T> future, long timeoutNanos)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (timeoutNanos < 0) {
+            return future.get();
+        }
+        return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Forcibly terminates the process and its descendants, and closes its streams, so that no thread or file
+     * descriptor stays held by it. The descendants are terminated as well, since they may hold the write ends of the
+     * pipes of the process, in which case a read from the pipes would not end when only the process exits.
+     *
+     * @param process process to be terminated
+     */
+    public static void terminate(Process process) {
+        // The descendants are captured before the process exits, since they are no longer found after that.
+        List<ProcessHandle> descendants = process.descendants().toList();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        closeQuietly(process.getOutputStream());
+        closeQuietly(process.getInputStream());
+        closeQuietly(process.getErrorStream());
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // The process has been terminated, so a failure to close its stream is not actionable
+        }
+    }
+
+    /**
+     * Returns the underlying cause of a failed native task, unwrapping the exceptions of the future and I/O failures
+     * rethrown as unchecked.
+     *
+     * @param e exception with which the task failed
+     * @return the cause of the failure
+     */
+    public static Throwable getCause(Throwable e) {
+        Throwable cause = e;
+        if ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof UncheckedIOException) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
     /**
      * Returns the os property which corresponds to the given key.
      *
@@ -68,19 +178,31 @@ public final class OSUtils {
         return StringUtils.fromString(value);
     }
 
-    public static BMap<BString, Object> getEnvVariablesMap(Environment env) {
-        Object envVarMap = env.getStrandLocal(ENV_VAR_KEY);
-        BMap<BString, Object> envMap;
-        if (envVarMap != null) {
-            return (BMap<BString, Object>) envVarMap;
-        }
-        MapType mapType = TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
-        envMap = ValueCreator.createMapValue(mapType);
-        Map<String, String> jEnvMap = System.getenv();
-        for (Map.Entry<String, String> entry : jEnvMap.entrySet()) {
-            envMap.put(StringUtils.fromString(entry.getKey()), StringUtils.fromString(entry.getValue()));
+    /**
+     * Returns the environment variables seen by the current strand.
+     *
+     * @param env the environment of the current strand
+     * @return the overlay of the strand, or {@link EnvOverlay#EMPTY} if the strand has not changed the environment
+     */
+    public static EnvOverlay getEnvOverlay(Environment env) {
+        Object overlay = env.getStrandLocal(ENV_VAR_KEY);
+        return overlay != null ? (EnvOverlay) overlay : EnvOverlay.EMPTY;
+    }
+
+    /**
+     * Returns the environment variables of the current strand for changing them, creating the overlay of the strand
+     * if it does not have one yet.
+     *
+     * @param env the environment of the current strand
+     * @return the overlay of the strand
+     */
+    public static EnvOverlay getMutableEnvOverlay(Environment env) {
+        Object overlay = env.getStrandLocal(ENV_VAR_KEY);
+        if (overlay != null) {
+            return (EnvOverlay) overlay;
         }
-        env.setStrandLocal(ENV_VAR_KEY, envMap);
-        return envMap;
+        EnvOverlay envOverlay = new EnvOverlay();
+        env.setStrandLocal(ENV_VAR_KEY, envOverlay);
+        return envOverlay;
     }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+import static io.ballerina.stdlib.os.utils.OSConstants.STDERR;
+import static io.ballerina.stdlib.os.utils.OSConstants.STDOUT;
+
+/**
+ * Pushes the output and the exit of a process to a sink as they happen. Both output streams are read by pumps, and
+ * the chunks are delivered to the sink one at a time by a single dispatcher, in the order in which they were read.
+ * The chunks, which arrive while the sink is busy, are coalesced into batches, so that a slow sink receives fewer and
+ * larger chunks instead of falling behind. No batch is larger than the maximum batch size, and a larger chunk is split.
+ * <p>
+ * At most {@link #QUEUE_CAPACITY} chunks are queued for the dispatcher. Once the queue is full, the pumps stop reading
+ * until the sink catches up, so the pipes fill and a process writing faster than its sink consumes is blocked on a
+ * write instead of the output being buffered without a limit.
+ * <p>
+ * The streams are read from the first start until their end, even while no sink is attached, so that a sink attached
+ * after a stop continues from where the previous one stopped instead of a second reader competing for the streams.
+ *
+ * @since 1.11.0
+ */
+public class ProcessEventPump {
+
+    /**
+     * Maximum number of chunks queued for the dispatcher.
+     */
+    static final int QUEUE_CAPACITY = 64;
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessEventPump.class);
+
+    /**
+     * Receiver of the events of a process. The methods are never called concurrently.
+     */
+    public interface Sink {
+
+        void onStdout(byte[] chunk);
+
+        void onStderr(byte[] chunk);
+
+        void onExit(int exitCode);
+    }
+
+    /**
+     * A chunk read from an output stream, or the end of the stream if the data is {@code null}.
+     */
+    private record Event(long stream, byte[] data) {
+    }
+
+    /**
+     * Marks the point of a graceful stop in the queue. The events queued before it are still delivered.
+     */
+    private static final Event STOP = new Event(-1, null);
+
+    private final Process process;
+    private final int maxBatchSize;
+    private final BlockingQueue<Event> events = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final CompletableFuture<Void> dispatched = new CompletableFuture<>();
+    private volatile Sink sink = null;
+    private boolean started = false;
+    private Sink stoppingSink = null;
+    private CompletableFuture<Void> stopped = null;
+
+    /**
+     * Creates a pump for the events of a process. No stream is read until the pump is started.
+     *
+     * @param process      process, of which the events are pushed
+     * @param maxBatchSize maximum number of bytes coalesced into a single chunk
+     */
+    public ProcessEventPump(Process process, int maxBatchSize) {
+        this.process = process;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Starts delivering the events to the given sink. The streams are read from the first call on.
+     *
+     * @param sink receiver of the events
+     */
+    public synchronized void start(Sink sink) {
+        this.sink = sink;
+        if (!started) {
+            started = true;
+            pump(STDOUT);
+            pump(STDERR);
+            StreamPump.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Returns whether the events are being delivered to a sink.
+     */
+    public boolean isDelivering() {
+        return sink != null;
+    }
+
+    /**
+     * Stops delivering events to the sink right away. A call to the sink, which is in progress, is not interrupted.
+     * The output of the process is still read and discarded, so that the process is never blocked on a full pipe.
+     */
+    public synchronized void stop() {
+        sink = null;
+    }
+
+    /**
+     * Stops delivering events to the sink once the events, which have been read so far, have been delivered. If the
+     * process has already exited, its output is finite, so all the events are delivered, including the exit. Waits
+     * until then, or until all the events have been delivered if the process ends first.
+     */
+    public void stopGracefully() throws InterruptedException {
+        Sink stopping;
+        CompletableFuture<Void> pendingStop;
+        boolean addMarker = false;
+        synchronized (this) {
+            stopping = sink;
+            if (stopping == null) {
+                return;
+            }
+            if (!process.isAlive()) {
+                pendingStop = dispatched;
+            } else {
+                if (stopped == null || stoppingSink != stopping) {
+                    stoppingSink = stopping;
+                    stopped = new CompletableFuture<>();
+                    addMarker = true;
+                }
+                pendingStop = stopped;
+            }
+        }
+        if (addMarker) {
+            // The queue is consumed by the dispatcher until it has delivered all the events, after which no event is
+            // added, so the marker always finds space eventually.
+            events.put(STOP);
+        }
+        CompletableFuture.anyOf(pendingStop, dispatched).join();
+        synchronized (this) {
+            // A sink started in the meantime is left running.
+            if (sink == stopping) {
+                sink = null;
+            }
+        }
+    }
+
+    /**
+     * Stops delivering to the sink, for which the marker was added, unless another sink has been started since.
+     */
+    private synchronized void onStopMarker() {
+        if (sink == stoppingSink) {
+            sink = null;
+        }
+        stopped.complete(null);
+    }
+
+    private void pump(long stream) {
+        CompletableFuture<Void> pump = StreamPump.pump(process, OSUtils.getOutputStream(process, stream),
+                chunk -> enqueue(new Event(stream, chunk)));
+        // A failed read ends the stream as well, as nothing more can be read from it.
+        pump.whenComplete((ignored, error) -> enqueue(new Event(stream, null)));
+    }
+
+    /**
+     * Hands an event to the dispatcher, waiting for space in the queue if the sink has fallen behind.
+     */
+    private void enqueue(Event event) {
+        try {
+            events.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch() {
+        int openStreams = 2;
+        List<Event> pending = new ArrayList<>();
+        try {
+            while (openStreams > 0) {
+                pending.add(events.take());
+                events.drainTo(pending);
+                for (Event event : coalesce(pending)) {
+                    if (event == STOP) {
+                        onStopMarker();
+                    } else if (event.data() == null) {
+                        openStreams--;
+                    } else {
+                        deliver(event);
+                    }
+                }
+                pending.clear();
+            }
+            // Waiting on the future parks the virtual thread of the dispatcher instead of holding its carrier.
+            int exitCode = process.onExit().join().exitValue();
+            Sink current = sink;
+            if (current != null) {
+                try {
+                    current.onExit(exitCode);
+                } catch (RuntimeException e) {
+                    LOG.error("Failed to deliver the exit of the process", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            dispatched.complete(null);
+        }
+    }
+
+    /**
+     * Merges the consecutive chunks of the same stream into batches of up to the maximum batch size, splitting the
+     * chunks, which do not fit into a batch.
+     */
+    private List<Event> coalesce(List<Event> pending) {
+        List<Event> batches = new ArrayList<>(pending.size());
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        long batchStream = -1;
+        for (Event event : pending) {
+            if (batch.size() > 0 && (event.stream() != batchStream || event.data() == null)) {
+                batches.add(new Event(batchStream, batch.toByteArray()));
+                batch.reset();
+            }
+            if (event.data() == null) {
+                batches.add(event);
+                continue;
+            }
+            batchStream = event.stream();
+            byte[] data = event.data();
+            int offset = 0;
+            while (offset < data.length) {
+                int length = Math.min(data.length - offset, maxBatchSize - batch.size());
+                batch.write(data, offset, length);
+                offset += length;
+                if (batch.size() == maxBatchSize) {
+                    batches.add(new Event(batchStream, batch.toByteArray()));
+                    batch.reset();
+                }
+            }
+        }
+        if (batch.size() > 0) {
+            batches.add(new Event(batchStream, batch.toByteArray()));
+        }
+        return batches;
+    }
+
+    /**
+     * Hands a batch to the sink. A failure of the sink is logged, and the dispatcher moves on to the next batch, so
+     * that the output of the process is still consumed.
+     */
+    private void deliver(Event event) {
+        Sink current = sink;
+        if (current == null) {
+            return;
+        }
+        try {
+            if (event.stream() == STDOUT) {
+                current.onStdout(event.data());
+            } else {
+                current.onStderr(event.data());
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Failed to deliver the output of the process", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.Tag;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.stdlib.os.utils.OSConstants.STDOUT;
+
+/**
+ * Records the lifecycle metrics of the child processes through Ballerina observability. All the metrics are tagged
+ * with the name of the executable, and nothing is recorded unless metrics are enabled.
+ *
+ * @since 1.11.0
+ */
+public final class ProcessMetrics {
+
+    private static final String SPAWN_LATENCY = "os_exec_spawn_latency_seconds";
+    private static final String WAIT_LATENCY = "os_exec_wait_latency_seconds";
+    private static final String OUTPUT_BYTES = "os_exec_output_bytes_total";
+    private static final String NON_ZERO_EXITS = "os_exec_non_zero_exits_total";
+    private static final String LIVE_PROCESSES = "os_exec_live_processes";
+    private static final String EXECUTABLE_TAG = "executable";
+    private static final String STREAM_TAG = "stream";
+    private static final StatisticConfig[] LATENCY_STATISTICS = {
+            StatisticConfig.builder()
+                    .expiry(Duration.ofMinutes(1))
+                    .buckets(3)
+                    .percentiles(StatisticConfig.DEFAULT_PERCENTILES)
+                    .build()
+    };
+
+    private ProcessMetrics() {}
+
+    /**
+     * Returns the name of the executable of the given command, without its directory, to be used as the tag value.
+     * The name is taken with plain string handling, since the command may hold characters, which are not valid in a
+     * path of the platform.
+     */
+    public static String getExecutableName(List<String> command) {
+        String executable = command.get(0);
+        int separator = Math.max(executable.lastIndexOf('/'), executable.lastIndexOf(File.separatorChar));
+        return separator < executable.length() - 1 ? executable.substring(separator + 1) : executable;
+    }
+
+    /**
+     * Records the spawn latency of a process, and tracks it as a live process until it exits.
+     *
+     * @param executable name of the executable
+     * @param startNanos {@link System#nanoTime()} before the process was started
+     * @param process    process, which was started
+     * @return the given process
+     */
+    public static Process recordSpawn(String executable, long startNanos, Process process) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return process;
+        }
+        Set<Tag> tags = createTags(executable);
+        DefaultMetricRegistry.getInstance().gauge(new MetricId(SPAWN_LATENCY, "Time taken to start a process", tags),
+                LATENCY_STATISTICS).setValue(toSeconds(System.nanoTime() - startNanos));
+        DefaultMetricRegistry.getInstance().gauge(new MetricId(LIVE_PROCESSES, "Number of live processes", tags))
+                .increment();
+        process.onExit().thenAccept(exited -> {
+            DefaultMetricRegistry.getInstance().gauge(new MetricId(LIVE_PROCESSES, "Number of live processes",
+                    tags)).decrement();
+            if (exited.exitValue() != 0) {
+                DefaultMetricRegistry.getInstance().counter(new MetricId(NON_ZERO_EXITS,
+                        "Number of processes exited with a non-zero exit code", tags)).increment();
+            }
+        });
+        return process;
+    }
+
+    /**
+     * Records the time a caller waited for a process to exit.
+     *
+     * @param executable name of the executable
+     * @param startNanos {@link System#nanoTime()} before the wait started
+     */
+    public static void recordWait(String executable, long startNanos) {
+        if (!ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        DefaultMetricRegistry.getInstance().gauge(new MetricId(WAIT_LATENCY, "Time waited for a process to exit",
+                createTags(executable)), LATENCY_STATISTICS).setValue(toSeconds(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Records the number of bytes read from an output stream of a process.
+     *
+     * @param executable       name of the executable
+     * @param fileOutputStream `io:stdout` (1) for the standard output, or `io:stderr` (2) for the standard error
+     * @param bytes            number of bytes read
+     */
+    public static void recordOutputBytes(String executable, long fileOutputStream, long bytes) {
+        if (bytes <= 0 || !ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        Set<Tag> tags = createTags(executable);
+        tags.add(Tag.of(STREAM_TAG, fileOutputStream == STDOUT ? "stdout" : "stderr"));
+        DefaultMetricRegistry.getInstance().counter(new MetricId(OUTPUT_BYTES,
+                "Number of bytes read from the output of processes", tags)).increment(bytes);
+    }
+
+    private static Set<Tag> createTags(String executable) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(Tag.of(EXECUTABLE_TAG, executable));
+        return tags;
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
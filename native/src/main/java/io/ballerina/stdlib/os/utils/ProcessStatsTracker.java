@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the resource usage of a child process. A snapshot combines {@link ProcessHandle.Info} with the Linux
+ * {@code /proc/<pid>/status} and {@code /proc/<pid>/io} files. Since the usage of a process cannot be read once it
+ * has exited, the usage is sampled in the background from the spawn of the process until it exits, and the last sample
+ * is returned as the final snapshot, together with the time of the exit.
+ * <p>
+ * The first sample is taken a millisecond after the spawn, and the interval doubles after each sample up to
+ * {@link #MAX_SAMPLE_INTERVAL_MILLIS}, so that the last sample of a short-lived process is taken close to its exit,
+ * while a long-lived process is sampled rarely. Nothing is read at the spawn itself, so starting a process only pays
+ * for scheduling its first sample.
+ *
+ * @since 1.11.0
+ */
+public class ProcessStatsTracker {
+
+    private static final Path PROC = Paths.get("/proc");
+    private static final long KB = 1024;
+    private static final long MIN_SAMPLE_INTERVAL_MILLIS = 1;
+    private static final long MAX_SAMPLE_INTERVAL_MILLIS = 500;
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "os-process-stats-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Resource usage of a process at a point in time. A value, which cannot be determined on the platform, is
+     * {@code null}.
+     *
+     * @param pid        process ID
+     * @param alive      whether the process was alive when the snapshot was taken
+     * @param startTime  start time of the process
+     * @param cpuTime    total CPU time consumed by the process
+     * @param wallTime   elapsed time from the start of the process to the snapshot, or to the exit of the process
+     * @param rss        resident set size in bytes
+     * @param peakRss    peak resident set size in bytes
+     * @param readBytes  bytes read from the storage layer
+     * @param writeBytes bytes written to the storage layer
+     */
+    public record Snapshot(long pid, boolean alive, Instant startTime, Duration cpuTime, Duration wallTime, Long rss,
+                           Long peakRss, Long readBytes, Long writeBytes) {
+    }
+
+    private final Process process;
+    private final Instant spawnTime;
+    private volatile Instant startTime = null;
+    private volatile Instant exitTime = null;
+    private volatile Snapshot lastSnapshot = null;
+    private ScheduledFuture<?> nextSample = null;
+
+    private ProcessStatsTracker(Process process, Instant spawnTime) {
+        this.process = process;
+        this.spawnTime = spawnTime;
+    }
+
+    /**
+     * Starts tracking a process, which has just been spawned.
+     *
+     * @param process process to be tracked
+     * @return the tracker of the process
+     */
+    public static ProcessStatsTracker start(Process process) {
+        ProcessStatsTracker tracker = new ProcessStatsTracker(process, Instant.now());
+        tracker.scheduleSample(MIN_SAMPLE_INTERVAL_MILLIS);
+        process.onExit().thenRun(tracker::onExit);
+        return tracker;
+    }
+
+    private synchronized void scheduleSample(long delayMillis) {
+        if (exitTime != null) {
+            return;
+        }
+        nextSample = SAMPLER.schedule(() -> {
+            getSnapshot();
+            scheduleSample(Math.min(delayMillis * 2, MAX_SAMPLE_INTERVAL_MILLIS));
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void onExit() {
+        exitTime = Instant.now();
+        nextSample.cancel(false);
+    }
+
+    /**
+     * Returns the current resource usage of the process, or the final snapshot if the process has exited.
+     */
+    public Snapshot getSnapshot() {
+        if (!process.isAlive()) {
+            return getFinalSnapshot();
+        }
+        ProcessHandle.Info info = process.info();
+        long pid = process.pid();
+        Instant start = getStartTime(info);
+        Long rss = null;
+        Long peakRss = null;
+        Long readBytes = null;
+        Long writeBytes = null;
+        List<String> status = readProcFile(pid, "status");
+        if (status != null) {
+            rss = findValue(status, "VmRSS:", KB);
+            peakRss = findValue(status, "VmHWM:", KB);
+        }
+        List<String> io = readProcFile(pid, "io");
+        if (io != null) {
+            readBytes = findValue(io, "read_bytes:", 1);
+            writeBytes = findValue(io, "write_bytes:", 1);
+        }
+        Snapshot snapshot = new Snapshot(pid, true, start, info.totalCpuDuration().orElse(null),
+                Duration.between(start, Instant.now()), rss, peakRss, readBytes, writeBytes);
+        if (process.isAlive()) {
+            lastSnapshot = snapshot;
+            return snapshot;
+        }
+        // The process exited while the snapshot was taken, so the values read may be incomplete.
+        return getFinalSnapshot();
+    }
+
+    private Instant getStartTime(ProcessHandle.Info info) {
+        Instant start = startTime;
+        if (start == null) {
+            start = info.startInstant().orElse(spawnTime);
+            startTime = start;
+        }
+        return start;
+    }
+
+    private Snapshot getFinalSnapshot() {
+        Instant start = startTime != null ? startTime : spawnTime;
+        Instant exit = exitTime != null ? exitTime : Instant.now();
+        Snapshot last = lastSnapshot;
+        if (last == null) {
+            return new Snapshot(process.pid(), false, start, null, Duration.between(start, exit), null,
+                    null, null, null);
+        }
+        return new Snapshot(last.pid(), false, start, last.cpuTime(), Duration.between(start, exit),
+                last.rss(), last.peakRss(), last.readBytes(), last.writeBytes());
+    }
+
+    private static List<String> readProcFile(long pid, String name) {
+        Path path = PROC.resolve(Long.toString(pid)).resolve(name);
+        try {
+            return Files.readAllLines(path);
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static Long findValue(List<String> lines, String key, long unit) {
+        for (String line : lines) {
+            if (line.startsWith(key)) {
+                String[] parts = line.substring(key.length()).trim().split("\\s+");
+                try {
+                    return Long.parseLong(parts[0]) * unit;
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Drains process streams on background pump tasks, so that a child process never blocks on a full pipe while the
+ * caller is waiting on a different stream or on the exit of the process. Each pump task runs on its own virtual
+ * thread, so thousands of live children cost thousands of virtual threads rather than platform threads.
+ * <p>
+ * A read from a pipe is a blocking file read, which does not release the carrier of a virtual thread. The scheduler
+ * makes up for it by adding a carrier for the duration of the read, and the strands of the Ballerina runtime share
+ * the same scheduler. To bound the carriers added for the pumps, at most {@link #MAX_BLOCKING_READS} pumps wait in a
+ * blocking read at a time. Any other pump only reads the bytes already in the pipe, and otherwise parks until either
+ * more bytes may have arrived or the process exits. A parked virtual thread releases its carrier. Once the process
+ * has exited, its remaining output is read without a permit, since the JDK has then already buffered it or the read
+ * returns at the end of the stream.
+ *
+ * @since 1.11.0
+ */
+public final class StreamPump {
+
+    /**
+     * Maximum number of pumps waiting in a blocking read at a time, which bounds the carrier threads added for them.
+     */
+    static final int MAX_BLOCKING_READS = 64;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long MIN_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("os-stream-pump-", 0).factory());
+    private static final Semaphore BLOCKING_READS = new Semaphore(MAX_BLOCKING_READS);
+    private static final AtomicInteger ACTIVE_PUMPS = new AtomicInteger();
+    private static final LongAdder TOTAL_PUMPS = new LongAdder();
+    private static final LongAdder PUMPED_BYTES = new LongAdder();
+
+    private StreamPump() {}
+
+    /**
+     * Reads the given stream of a process until the end on a pump task and closes it. Bytes beyond the limit are read
+     * and discarded, so the writer is never blocked.
+     *
+     * @param process process, which writes to the stream
+     * @param in      stream to be drained
+     * @param limit   maximum number of bytes to be retained, or a negative value to retain all the bytes
+     * @return a future, which completes with the retained bytes
+     */
+    public static CompletableFuture<byte[]> drain(Process process, InputStream in, long limit) {
+        return drain(process, in, limit, bytesRead -> { });
+    }
+
+    /**
+     * Reads the given stream of a process until the end on a pump task and closes it, reporting the number of bytes
+     * read, which includes the bytes read beyond the limit and discarded.
+     *
+     * @param process   process, which writes to the stream
+     * @param in        stream to be drained
+     * @param limit     maximum number of bytes to be retained, or a negative value to retain all the bytes
+     * @param bytesRead consumer of the number of bytes read, which is called on the pump task once the end of the
+     *                  stream has been reached
+     * @return a future, which completes with the retained bytes
+     */
+    public static CompletableFuture<byte[]> drain(Process process, InputStream in, long limit,
+                                                  LongConsumer bytesRead) {
+        TOTAL_PUMPS.increment();
+        return CompletableFuture.supplyAsync(() -> {
+            ACTIVE_PUMPS.incrementAndGet();
+            try (in) {
+                return readAll(process, in, limit, bytesRead);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                ACTIVE_PUMPS.decrementAndGet();
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Reads the given stream of a process until the end on a pump task and closes it, handing each chunk to the
+     * consumer as soon as it has been read.
+     *
+     * @param process  process, which writes to the stream
+     * @param in       stream to be read
+     * @param consumer consumer of the chunks, which is called on the pump task
+     * @return a future, which completes once the end of the stream has been reached
+     */
+    public static CompletableFuture<Void> pump(Process process, InputStream in, Consumer<byte[]> consumer) {
+        TOTAL_PUMPS.increment();
+        return CompletableFuture.runAsync(() -> {
+            ACTIVE_PUMPS.incrementAndGet();
+            try (in) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = read(process, in, buffer)) != -1) {
+                    consumer.accept(Arrays.copyOf(buffer, read));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                ACTIVE_PUMPS.decrementAndGet();
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Runs a native task, such as a scheduler, which starts processes and hands them to the pumps, on a virtual
+     * thread. The task is expected to wait only on {@code java.util.concurrent} primitives, which release the carrier.
+     *
+     * @param task task to be run
+     */
+    public static void execute(Runnable task) {
+        EXECUTOR.execute(task);
+    }
+
+    /**
+     * Returns the number of pump tasks reading a stream at the moment.
+     */
+    public static int getActivePumps() {
+        return ACTIVE_PUMPS.get();
+    }
+
+    /**
+     * Returns the total number of streams, which have been handed to the pumps.
+     */
+    public static long getTotalPumps() {
+        return TOTAL_PUMPS.sum();
+    }
+
+    /**
+     * Returns the total number of bytes read by the pumps, including the bytes read beyond a limit and discarded.
+     */
+    public static long getPumpedBytes() {
+        return PUMPED_BYTES.sum();
+    }
+
+    private static byte[] readAll(Process process, InputStream in, long limit, LongConsumer bytesRead)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = read(process, in, buffer)) != -1) {
+            total += read;
+            if (limit < 0) {
+                out.write(buffer, 0, read);
+            } else if (out.size() < limit) {
+                out.write(buffer, 0, (int) Math.min(read, limit - out.size()));
+            }
+        }
+        bytesRead.accept(total);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the next chunk of the stream. A blocking read is made only with a permit, or once the process has exited,
+     * and the pump otherwise parks with a growing backoff until bytes are available or the process exits.
+     *
+     * @return the number of bytes read, or -1 at the end of the stream
+     */
+    private static int read(Process process, InputStream in, byte[] buffer) throws IOException {
+        long pollNanos = MIN_POLL_NANOS;
+        while (true) {
+            int read;
+            int available = in.available();
+            if (available > 0) {
+                read = in.read(buffer, 0, Math.min(available, buffer.length));
+            } else if (!process.isAlive()) {
+                read = in.read(buffer);
+            } else if (BLOCKING_READS.tryAcquire()) {
+                try {
+                    read = in.read(buffer);
+                } finally {
+                    BLOCKING_READS.release();
+                }
+            } else {
+                awaitExit(process, pollNanos);
+                pollNanos = Math.min(pollNanos * 2, MAX_POLL_NANOS);
+                continue;
+            }
+            if (read > 0) {
+                PUMPED_BYTES.add(read);
+            }
+            return read;
+        }
+    }
+
+    private static void awaitExit(Process process, long timeoutNanos) throws IOException {
+        try {
+            process.onExit().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // The stream is polled again
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading the stream", e);
+        }
+    }
+}
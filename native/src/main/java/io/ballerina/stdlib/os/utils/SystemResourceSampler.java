@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.os.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the resources of the host in the background, so that the latest sample can be read without any I/O. The
+ * load averages, the memory and the CPU usage are read from the Linux {@code /proc/loadavg}, {@code /proc/meminfo} and
+ * {@code /proc/stat} files, and the CPU and memory limits from the cgroup v2 files of the cgroup of the JVM, or from
+ * the cgroup v1 hierarchies. The sampler is started on first use.
+ *
+ * @since 1.11.0
+ */
+public final class SystemResourceSampler {
+
+    private static final Path PROC = Paths.get("/proc");
+    private static final Path CGROUP = Paths.get("/sys/fs/cgroup");
+    private static final long KB = 1024;
+    // cgroup v1 reports an unlimited memory limit as the largest page-aligned value, which is beyond this
+    private static final long CGROUP_V1_UNLIMITED = Long.MAX_VALUE / 2;
+
+    /**
+     * Resources of the host at a point in time. A value, which cannot be determined on the platform, is {@code null}.
+     *
+     * @param availableProcessors number of processors available to the JVM
+     * @param cpuLimit            CPU quota of the cgroup in number of CPUs, or {@code null} if unlimited
+     * @param cpuUsage            fraction of the time all the CPUs were busy since the previous sample
+     * @param loadAverage1        system load average over the last minute
+     * @param loadAverage5        system load average over the last 5 minutes
+     * @param loadAverage15       system load average over the last 15 minutes
+     * @param totalMemory         total memory of the host in bytes
+     * @param availableMemory     memory of the host available for starting new applications in bytes
+     * @param memoryLimit         memory limit of the cgroup in bytes, or {@code null} if unlimited
+     * @param memoryUsage         memory used by the cgroup in bytes
+     */
+    public record Sample(int availableProcessors, Double cpuLimit, Double cpuUsage, Double loadAverage1,
+                         Double loadAverage5, Double loadAverage15, Long totalMemory, Long availableMemory,
+                         Long memoryLimit, Long memoryUsage) {
+    }
+
+    private static long intervalMillis = 1000;
+    private static ScheduledExecutorService scheduler = null;
+    private static volatile Sample latest = null;
+    private static long[] lastCpuTimes = null;
+
+    private SystemResourceSampler() {}
+
+    /**
+     * Sets the interval between the samples. It takes effect only if the sampler has not been started yet.
+     *
+     * @param interval interval in milliseconds, which is raised to a millisecond if it is not positive
+     */
+    public static synchronized void configure(long interval) {
+        intervalMillis = Math.max(1, interval);
+    }
+
+    /**
+     * Returns the latest sample, taking the first one and starting the sampler if it has not been started yet.
+     */
+    public static Sample getLatest() {
+        Sample sample = latest;
+        if (sample != null) {
+            return sample;
+        }
+        synchronized (SystemResourceSampler.class) {
+            if (scheduler == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "os-resource-sampler");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                try {
+                    executor.scheduleAtFixedRate(SystemResourceSampler::sample, intervalMillis, intervalMillis,
+                            TimeUnit.MILLISECONDS);
+                } catch (RuntimeException e) {
+                    executor.shutdownNow();
+                    throw e;
+                }
+                // The first sample is taken only once sampling is scheduled, so that a failure is retried on the next
+                // call instead of the first sample being returned forever
+                scheduler = executor;
+                sample();
+            }
+            return latest;
+        }
+    }
+
+    private static synchronized void sample() {
+        try {
+            Double[] loadAverages = readLoadAverages();
+            Long[] memory = readMemory();
+            latest = new Sample(Runtime.getRuntime().availableProcessors(), readCpuLimit(), readCpuUsage(),
+                    loadAverages[0], loadAverages[1], loadAverages[2], memory[0], memory[1], readMemoryLimit(),
+                    readMemoryUsage());
+        } catch (RuntimeException e) {
+            // A malformed file must not stop the sampler, so the previous sample is kept until the next one
+            if (latest == null) {
+                latest = new Sample(Runtime.getRuntime().availableProcessors(), null, null, null, null, null, null,
+                        null, null, null);
+            }
+        }
+    }
+
+    private static Double[] readLoadAverages() {
+        Double[] loadAverages = new Double[3];
+        String content = readFirstLine(PROC.resolve("loadavg"));
+        if (content != null) {
+            String[] fields = content.trim().split("\\s+");
+            for (int i = 0; i < loadAverages.length && i < fields.length; i++) {
+                loadAverages[i] = Double.parseDouble(fields[i]);
+            }
+        }
+        return loadAverages;
+    }
+
+    /**
+     * Reads the total and the available memory of the host from {@code /proc/meminfo}.
+     */
+    private static Long[] readMemory() {
+        Long[] memory = new Long[2];
+        try {
+            for (String line : Files.readAllLines(PROC.resolve("meminfo"))) {
+                if (line.startsWith("MemTotal:")) {
+                    memory[0] = parseKb(line);
+                } else if (line.startsWith("MemAvailable:")) {
+                    memory[1] = parseKb(line);
+                }
+            }
+        } catch (IOException | SecurityException e) {
+            // The file is not available on this platform, so the memory is unknown
+        }
+        return memory;
+    }
+
+    /**
+     * Computes the fraction of the time all the CPUs were busy since the previous sample from the aggregate
+     * {@code cpu} line of {@code /proc/stat}. The first sample has no previous sample, so its usage is unknown.
+     */
+    private static Double readCpuUsage() {
+        String line = readFirstLine(PROC.resolve("stat"));
+        if (line == null || !line.startsWith("cpu ")) {
+            return null;
+        }
+        String[] fields = line.trim().split("\\s+");
+        long total = 0;
+        long idle = 0;
+        for (int i = 1; i < fields.length; i++) {
+            long value = Long.parseLong(fields[i]);
+            total += value;
+            // The idle and the iowait columns
+            if (i == 4 || i == 5) {
+                idle += value;
+            }
+        }
+        long[] previous = lastCpuTimes;
+        lastCpuTimes = new long[]{total, idle};
+        if (previous == null || total == previous[0]) {
+            return null;
+        }
+        return 1 - (double) (idle - previous[1]) / (total - previous[0]);
+    }
+
+    private static Double readCpuLimit() {
+        Path cgroupV2 = getCgroupV2Path();
+        if (cgroupV2 != null) {
+            String cpuMax = readFirstLine(cgroupV2.resolve("cpu.max"));
+            if (cpuMax == null || cpuMax.startsWith("max")) {
+                return null;
+            }
+            String[] fields = cpuMax.trim().split("\\s+");
+            return (double) Long.parseLong(fields[0]) / Long.parseLong(fields[1]);
+        }
+        Long quota = readLong(CGROUP.resolve("cpu").resolve("cpu.cfs_quota_us"));
+        Long period = readLong(CGROUP.resolve("cpu").resolve("cpu.cfs_period_us"));
+        if (quota == null || period == null || quota < 0 || period <= 0) {
+            return null;
+        }
+        return (double) quota / period;
+    }
+
+    private static Long readMemoryLimit() {
+        Path cgroupV2 = getCgroupV2Path();
+        if (cgroupV2 != null) {
+            return readLong(cgroupV2.resolve("memory.max"));
+        }
+        Long limit = readLong(CGROUP.resolve("memory").resolve("memory.limit_in_bytes"));
+        return limit == null || limit >= CGROUP_V1_UNLIMITED ? null : limit;
+    }
+
+    private static Long readMemoryUsage() {
+        Path cgroupV2 = getCgroupV2Path();
+        if (cgroupV2 != null) {
+            return readLong(cgroupV2.resolve("memory.current"));
+        }
+        return readLong(CGROUP.resolve("memory").resolve("memory.usage_in_bytes"));
+    }
+
+    /**
+     * Returns the directory of the cgroup v2 cgroup of the JVM, or {@code null} if the host does not use cgroup v2.
+     * The directory of the cgroup is not visible in some containers, in which case the root of the hierarchy, which
+     * is the cgroup of the container, is used.
+     */
+    private static Path getCgroupV2Path() {
+        if (!Files.exists(CGROUP.resolve("cgroup.controllers"))) {
+            return null;
+        }
+        String line = readFirstLine(PROC.resolve("self").resolve("cgroup"));
+        if (line != null && line.startsWith("0::/")) {
+            Path path = CGROUP.resolve(line.substring("0::/".length()));
+            if (Files.exists(path.resolve("cpu.max")) || Files.exists(path.resolve("memory.max"))) {
+                return path;
+            }
+        }
+        return CGROUP;
+    }
+
+    private static Long readLong(Path file) {
+        String value = readFirstLine(file);
+        if (value == null || value.trim().equals("max")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Long parseKb(String line) {
+        String[] fields = line.trim().split("\\s+");
+        return Long.parseLong(fields[1]) * KB;
+    }
+
+    private static String readFirstLine(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return lines.isEmpty() ? null : lines.get(0);
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+}